@@ -11,6 +11,8 @@ public class AVLTree<T extends Comparable<T>> implements Iterable<T> {
         T value;
         // The height of this node in the tree
         int height;
+        // The number of nodes in the subtree rooted at this node, this one included
+        int size = 1;
         // The left and right children of this node
         Node left, right;
         // Constructor
@@ -39,6 +41,13 @@ public class AVLTree<T extends Comparable<T>> implements Iterable<T> {
     // Tracks the number of nodes inside the tree
     private int nodeCount = 0;
 
+    // An AVL tree of 2^31 nodes is less than 45 levels high
+    private static final int MAX_HEIGHT = 64;
+
+    // The nodes from the root down to the one insert/remove is working on, reused between calls
+    @SuppressWarnings("unchecked")
+    private final Node[] path = (Node[]) new AVLTree.Node[MAX_HEIGHT];
+
     // The height of the rooted tree is the number of the edges between the tree's root and the furthest leaf.
     // This means that a tree containing a single node has a height of 0.
     public int height() {
@@ -58,67 +67,64 @@ public class AVLTree<T extends Comparable<T>> implements Iterable<T> {
 
     // Returns true/false depending on whether or not a value exists in the tree
     public boolean contains(T value){
-        return contains(root,value);
-    }
-
-    // Recursive contains helper method
-    private boolean contains(Node node, T value){
-        if(node == null) return false;
-
-        // Compare current value to the value in the node
-        int cmp = value.compareTo(node.value);
-
-        // Dig into left subtree
-        if(cmp<0) return contains(node.left,value);
+        Node node = root;
+        while (node != null){
+            // Compare current value to the value in the node
+            int cmp = value.compareTo(node.value);
 
-        // Dig into right subtree
-        if(cmp>0) return contains(node.right,value);
+            // Value found in tree
+            if(cmp == 0) return true;
 
-        // Value found in tree
-        return true;
+            // Dig into left or right subtree
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
     }
 
     // Insert a value to the AVL tree. The value must not be null. O(log(n))
+    // The descent that looks for the value also records the path, so a new value costs a single walk down
+    // and the walk back up stops at the first subtree whose height didn't change.
     public boolean insert(T value){
         if (value == null) return false;
-        if(!contains(root,value)){
-            root = insert(root,value);
-            nodeCount++;
-            return true;
-        }
-        return false;
-    }
-    // Insert a value inside the AVL tree.
-    private Node insert(Node node, T value){
-        // Base case
-        if (node == null) return new Node(value);
-
-        // Compare current value with the value in the node.
-        int cmp = value.compareTo(node.value);
-
-        // Insert node in the left subtree
-        if(cmp<0){
-            node.left = insert(node.left,value);
-        // Insert node in the right subtree
-        } else{
-            node.right = insert(node.right,value);
+        int depth = 0;
+        Node node = root;
+        int cmp = 0;
+        while (node != null){
+            cmp = value.compareTo(node.value);
+            if(cmp == 0){
+                clearPath(depth);
+                return false;
+            }
+            path[depth++] = node;
+            node = cmp < 0 ? node.left : node.right;
         }
 
-        // Update the balance factor and height values
-        this.update(node);
-
-        // Re-balance the tree
-        return this.balance(node);
+        Node leaf = new Node(value);
+        if(depth == 0) root = leaf;
+        else if(cmp < 0) path[depth - 1].left = leaf;
+        else path[depth - 1].right = leaf;
+        nodeCount++;
+        rebalancePath(depth, 1);
+        return true;
     }
 
-    // Updates the balance factor and height values
+    // Updates the balance factor, height and size values
     private void update(Node node){
         // Variables for left/right subtree height
         int leftNodeHeight = -1;
         int rightNodeHeight = -1;
 
-        if(node.left != null) leftNodeHeight = node.left.height;
-        if(node.right != null) rightNodeHeight = node.right.height;
+        int size = 1;
+
+        if(node.left != null){
+            leftNodeHeight = node.left.height;
+            size += node.left.size;
+        }
+        if(node.right != null){
+            rightNodeHeight = node.right.height;
+            size += node.right.size;
+        }
+        node.size = size;
 
         // Update this node's height
         node.height = 1 + Math.max(leftNodeHeight,rightNodeHeight);
@@ -181,65 +187,220 @@ public class AVLTree<T extends Comparable<T>> implements Iterable<T> {
     // Remove a value from this binary tree if it exists, O(log(n))
     public boolean remove(T elem){
         if(elem == null) return false;
+        int depth = 0;
+        Node node = root;
+        while (node != null){
+            int cmp = elem.compareTo(node.value);
+            if(cmp == 0) break;
+            path[depth++] = node;
+            node = cmp < 0 ? node.left : node.right;
+        }
+        if(node == null){
+            clearPath(depth);
+            return false;
+        }
 
-        if(contains(root,elem)){
-            root = remove(root,elem);
-            nodeCount--;
-            return true;
+        // A node with two children takes the value of its successor from the taller subtree, the node that
+        // held the successor has at most one child and is the one spliced out
+        if(node.left != null && node.right != null){
+            Node target = node;
+            path[depth++] = target;
+            if(target.left.height > target.right.height){
+                node = target.left;
+                while (node.right != null){
+                    path[depth++] = node;
+                    node = node.right;
+                }
+            }else{
+                node = target.right;
+                while (node.left != null){
+                    path[depth++] = node;
+                    node = node.left;
+                }
+            }
+            target.value = node.value;
         }
-        return false;
+
+        Node child = node.left != null ? node.left : node.right;
+        replaceChild(depth == 0 ? null : path[depth - 1], node, child);
+        node.value = null;
+        nodeCount--;
+        rebalancePath(depth, -1);
+        return true;
     }
 
-    private Node remove(Node node, T elem){
-        if(node == null) return null;
-
-        int cmp = elem.compareTo(node.value);
-        if(cmp<0){
-            node.left = remove(node.left,elem);
-        }else if(cmp>0){
-            node.right = remove(node.right,elem);
-        // Found the node we wish to remove
-        }else{
-            if(node.left == null){
-                return node.right;
-            }else if(node.right == null){
-                return node.left;
-            }else{
-                // Choose to remove from left subtree
-                if(node.left.height > node.right.height){
-                    // Swap the value of the successor into the node
-                    T successorValue = findMax(node.left);
-                    node.value = successorValue;
-                    // Remove the largest node in the left subtree
-                    node.left = remove(node.left,successorValue);
-                // Choose to remove from right subtree
-                }else{
-                    // Swap the value of the successor into the node
-                    T successorValue = findMin(node.right);
-                    node.value = successorValue;
-                    // Remove the largest node in the left subtree
-                    node.right = remove(node.right,successorValue);
+    // Walks the recorded path bottom up, updating and re-balancing each node. An ancestor only depends on
+    // the height of its subtrees, so once a subtree ends up as tall as it was before, nothing above needs
+    // re-balancing and the rest of the path only has its size adjusted by delta.
+    private void rebalancePath(int depth, int delta){
+        for (int i = depth - 1; i >= 0; i--) {
+            Node node = path[i];
+            path[i] = null;
+            int oldHeight = node.height;
+            update(node);
+            Node subtree = balance(node);
+            if(subtree != node) replaceChild(i == 0 ? null : path[i - 1], node, subtree);
+            if(subtree.height == oldHeight){
+                while (--i >= 0){
+                    path[i].size += delta;
+                    path[i] = null;
                 }
+                return;
             }
         }
+    }
 
-        // Update balance factor and height values
-        update(node);
+    private void clearPath(int depth){
+        while (depth > 0) path[--depth] = null;
+    }
+
+    // Points the parent, or the root if there is none, at the replacement instead of the child
+    private void replaceChild(Node parent, Node child, Node replacement){
+        if(parent == null) root = replacement;
+        else if(parent.left == child) parent.left = replacement;
+        else parent.right = replacement;
+    }
+
+    // Returns the number of values in the tree that are smaller than the value, O(log(n))
+    public int rank(T value){
+        return countBelow(value, false);
+    }
+
+    // Returns the k-th smallest value, counting from 0, O(log(n))
+    public T select(int k){
+        if(k < 0 || k >= nodeCount) throw new IndexOutOfBoundsException("Index: " + k + ", Size: " + nodeCount);
+        Node node = root;
+        while (true){
+            int leftSize = node.left == null ? 0 : node.left.size;
+            if(k < leftSize){
+                node = node.left;
+            }else if(k > leftSize){
+                k -= leftSize + 1;
+                node = node.right;
+            }else{
+                return node.value;
+            }
+        }
+    }
+
+    // Returns the number of values in [lo, hi], O(log(n))
+    public int countInRange(T lo, T hi){
+        if(lo.compareTo(hi) > 0) return 0;
+        return countBelow(hi, true) - countBelow(lo, false);
+    }
 
-        // Re-balance tree
-        return balance(node);
+    // Returns the smallest value with at least percentile percent of the values at or below it (nearest
+    // rank), O(log(n))
+    public T percentile(double percentile){
+        if(!(percentile >= 0 && percentile <= 100)) throw new IllegalArgumentException("Illegal Percentile:" + percentile);
+        if(isEmpty()) throw new java.util.NoSuchElementException();
+        int k = (int) Math.ceil(percentile / 100 * nodeCount) - 1;
+        return select(Math.max(0, Math.min(k, nodeCount - 1)));
+    }
+
+    // Number of values smaller than the value, or smaller or equal to it when inclusive
+    private int countBelow(T value, boolean inclusive){
+        int count = 0;
+        Node node = root;
+        while (node != null){
+            int cmp = value.compareTo(node.value);
+            if(cmp > 0 || (cmp == 0 && inclusive)){
+                // The node and everything left of it are below the value
+                count += 1 + (node.left == null ? 0 : node.left.size);
+                node = node.right;
+            }else{
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    // Returns the largest value smaller than or equal to the value, null if there is none
+    public T floor(T value){
+        return below(value, true);
+    }
+
+    // Returns the largest value strictly smaller than the value, null if there is none
+    public T lower(T value){
+        return below(value, false);
+    }
+
+    // Returns the smallest value larger than or equal to the value, null if there is none
+    public T ceiling(T value){
+        return above(value, true);
+    }
+
+    // Returns the smallest value strictly larger than the value, null if there is none
+    public T higher(T value){
+        return above(value, false);
+    }
+
+    private T below(T value, boolean inclusive){
+        T best = null;
+        Node node = root;
+        while (node != null){
+            int cmp = value.compareTo(node.value);
+            if(cmp == 0 && inclusive) return node.value;
+            if(cmp > 0){
+                best = node.value;
+                node = node.right;
+            }else{
+                node = node.left;
+            }
+        }
+        return best;
     }
 
-    // Helper method to find the leftmost node (which has the smallest value)
-    private T findMin(Node node) {
-        while (node.left != null) node = node.left;
-        return node.value;
+    private T above(T value, boolean inclusive){
+        T best = null;
+        Node node = root;
+        while (node != null){
+            int cmp = value.compareTo(node.value);
+            if(cmp == 0 && inclusive) return node.value;
+            if(cmp < 0){
+                best = node.value;
+                node = node.left;
+            }else{
+                node = node.right;
+            }
+        }
+        return best;
     }
 
-    // Helper method to find the rightmost node (which has the largest value)
-    private T findMax(Node node) {
-        while (node.right != null) node = node.right;
-        return node.value;
+    // Returns an iterator over the values in [lo, hi] in order. It seeks straight to lo, keeping only the
+    // ancestors still to be visited on its stack, and stops at the first value past hi, so reading m values
+    // costs O(log(n) + m).
+    public java.util.Iterator<T> rangeIterator(T lo, T hi){
+        final int expectedNodeCount = nodeCount;
+        final java.util.ArrayDeque<Node> stack = new java.util.ArrayDeque<>();
+
+        // Every node on the way down that is >= lo is still ahead of the iterator
+        Node trav = root;
+        while (trav != null){
+            if(lo.compareTo(trav.value) <= 0){
+                stack.push(trav);
+                trav = trav.left;
+            }else{
+                trav = trav.right;
+            }
+        }
+
+        return new java.util.Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                if (expectedNodeCount != nodeCount) throw new java.util.ConcurrentModificationException();
+                return !stack.isEmpty() && stack.peek().value.compareTo(hi) <= 0;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new java.util.NoSuchElementException();
+
+                Node node = stack.pop();
+                for (Node trav = node.right; trav != null; trav = trav.left) stack.push(trav);
+                return node.value;
+            }
+        };
     }
 
     // Returns as iterator to traverse the tree in order.
@@ -0,0 +1,346 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// In-memory B+tree with the API of AVLTree. A node is a sorted array of up to capacity keys, so a lookup walks
+// a handful of wide nodes and binary searches inside each one, instead of missing the cache on every level of
+// a binary tree. All values live in the leaves, which are linked in key order, so iterating and range scans
+// read the leaves one after another without going back up the tree. The inner nodes only hold separators:
+// children[i] of an inner node holds the values in [keys[i-1], keys[i]).
+@SuppressWarnings("unchecked")
+public class BPlusTree<T extends Comparable<T>> implements Iterable<T> {
+
+    static final class Node {
+        // Sorted keys, with one spare slot so a node can overflow by one before it is split
+        final Object[] keys;
+        // The number of keys in use
+        int count;
+        // The count+1 children of an inner node, null for a leaf
+        final Node[] children;
+        // The next leaf in key order
+        Node next;
+
+        Node(int capacity, boolean leaf){
+            keys = new Object[capacity + 1];
+            children = leaf ? null : new Node[capacity + 2];
+        }
+
+        boolean isLeaf(){
+            return children == null;
+        }
+    }
+
+    // 32 compressed references are two cache lines of keys
+    private static final int DEFAULT_CAPACITY = 32;
+
+    // Nodes are at least half full, so even the smallest capacity stays far below this height
+    private static final int MAX_HEIGHT = 32;
+
+    // The maximum and minimum number of keys of a node other than the root
+    private final int capacity;
+    private final int minKeys;
+
+    private Node root;
+
+    // Tracks the number of values inside the tree
+    private int valueCount = 0;
+
+    // The number of levels above the leaves
+    private int height = 0;
+
+    // Bumped by every insert and remove, iterators fail fast when it changes under them
+    private int modificationCount = 0;
+
+    // The inner nodes from the root down to the leaf insert/remove is working on and the child taken in each
+    private final Node[] pathNodes = new Node[MAX_HEIGHT];
+    private final int[] pathSlots = new int[MAX_HEIGHT];
+
+    public BPlusTree(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public BPlusTree(int capacity){
+        if(capacity < 4) throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        this.capacity = capacity;
+        minKeys = capacity / 2;
+    }
+
+    // The number of levels between the root and the leaves, 0 while the root is a leaf
+    public int height(){
+        return height;
+    }
+
+    // Returns the number of values in the tree.
+    public int size(){
+        return valueCount;
+    }
+
+    // Returns whether or not tree is empty
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    // Returns true/false depending on whether or not a value exists in the tree, O(log(n))
+    public boolean contains(T value){
+        if(value == null || root == null) return false;
+        Node node = root;
+        while (!node.isLeaf()) node = node.children[childIndex(node, value)];
+        return search(node, value) >= 0;
+    }
+
+    // Insert a value to the tree. The value must not be null. O(log(n))
+    public boolean insert(T value){
+        if(value == null) return false;
+        if(root == null) root = new Node(capacity, true);
+        int depth = 0;
+        Node node = root;
+        while (!node.isLeaf()){
+            int slot = childIndex(node, value);
+            pathNodes[depth] = node;
+            pathSlots[depth++] = slot;
+            node = node.children[slot];
+        }
+        int pos = search(node, value);
+        if(pos >= 0){
+            clearPath(depth);
+            return false;
+        }
+        insertKey(node, -pos - 1, value);
+        valueCount++;
+        modificationCount++;
+
+        // Split overflowing nodes bottom up, each split hands a separator and a new child to the parent
+        while (node.count > capacity){
+            Node right = new Node(capacity, node.isLeaf());
+            Object separator;
+            if(node.isLeaf()){
+                int keep = (capacity + 1) / 2;
+                right.count = node.count - keep;
+                System.arraycopy(node.keys, keep, right.keys, 0, right.count);
+                Arrays.fill(node.keys, keep, node.count, null);
+                node.count = keep;
+                right.next = node.next;
+                node.next = right;
+                separator = right.keys[0];
+            }else{
+                // The middle key moves up, the keys on either side of it stay in the two halves
+                int mid = (capacity + 1) / 2;
+                separator = node.keys[mid];
+                right.count = node.count - mid - 1;
+                System.arraycopy(node.keys, mid + 1, right.keys, 0, right.count);
+                System.arraycopy(node.children, mid + 1, right.children, 0, right.count + 1);
+                Arrays.fill(node.keys, mid, node.count, null);
+                Arrays.fill(node.children, mid + 1, node.count + 1, null);
+                node.count = mid;
+            }
+
+            if(depth == 0){
+                Node newRoot = new Node(capacity, false);
+                newRoot.keys[0] = separator;
+                newRoot.children[0] = node;
+                newRoot.children[1] = right;
+                newRoot.count = 1;
+                root = newRoot;
+                height++;
+                break;
+            }
+            Node parent = pathNodes[--depth];
+            int slot = pathSlots[depth];
+            pathNodes[depth] = null;
+            System.arraycopy(parent.children, slot + 1, parent.children, slot + 2, parent.count - slot);
+            parent.children[slot + 1] = right;
+            insertKey(parent, slot, separator);
+            node = parent;
+        }
+        clearPath(depth);
+        return true;
+    }
+
+    // Remove a value from this tree if it exists, O(log(n))
+    public boolean remove(T elem){
+        if(elem == null || root == null) return false;
+        int depth = 0;
+        Node node = root;
+        while (!node.isLeaf()){
+            int slot = childIndex(node, elem);
+            pathNodes[depth] = node;
+            pathSlots[depth++] = slot;
+            node = node.children[slot];
+        }
+        int pos = search(node, elem);
+        if(pos < 0){
+            clearPath(depth);
+            return false;
+        }
+        removeKey(node, pos);
+        valueCount--;
+        modificationCount++;
+
+        // A separator may still name the removed value, which is fine as it still bounds the children.
+        // Underfull nodes borrow from or merge with a sibling, a merge can leave the parent underfull in turn.
+        while (depth > 0 && node.count < minKeys){
+            Node parent = pathNodes[--depth];
+            pathNodes[depth] = null;
+            rebalance(parent, pathSlots[depth]);
+            node = parent;
+        }
+        clearPath(depth);
+
+        if(root.count == 0){
+            if(root.isLeaf()){
+                root = null;
+            }else{
+                root = root.children[0];
+                height--;
+            }
+        }
+        return true;
+    }
+
+    // Refills the underfull child at slot of the parent from a sibling, or merges it with one
+    private void rebalance(Node parent, int slot){
+        Node node = parent.children[slot];
+        Node left = slot > 0 ? parent.children[slot - 1] : null;
+        Node right = slot < parent.count ? parent.children[slot + 1] : null;
+
+        if(left != null && left.count > minKeys){
+            // Borrow the last key of the left sibling
+            if(node.isLeaf()){
+                insertKey(node, 0, left.keys[left.count - 1]);
+                removeKey(left, left.count - 1);
+                parent.keys[slot - 1] = node.keys[0];
+            }else{
+                System.arraycopy(node.children, 0, node.children, 1, node.count + 1);
+                node.children[0] = left.children[left.count];
+                left.children[left.count] = null;
+                insertKey(node, 0, parent.keys[slot - 1]);
+                parent.keys[slot - 1] = left.keys[left.count - 1];
+                removeKey(left, left.count - 1);
+            }
+        }else if(right != null && right.count > minKeys){
+            // Borrow the first key of the right sibling
+            if(node.isLeaf()){
+                insertKey(node, node.count, right.keys[0]);
+                removeKey(right, 0);
+                parent.keys[slot] = right.keys[0];
+            }else{
+                node.children[node.count + 1] = right.children[0];
+                insertKey(node, node.count, parent.keys[slot]);
+                parent.keys[slot] = right.keys[0];
+                System.arraycopy(right.children, 1, right.children, 0, right.count);
+                right.children[right.count] = null;
+                removeKey(right, 0);
+            }
+        }else if(left != null){
+            merge(parent, slot - 1);
+        }else{
+            merge(parent, slot);
+        }
+    }
+
+    // Merges children[i+1] of the parent into children[i] and drops the separator between them
+    private void merge(Node parent, int i){
+        Node left = parent.children[i];
+        Node right = parent.children[i + 1];
+        if(left.isLeaf()){
+            System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+            left.count += right.count;
+            left.next = right.next;
+        }else{
+            left.keys[left.count] = parent.keys[i];
+            System.arraycopy(right.keys, 0, left.keys, left.count + 1, right.count);
+            System.arraycopy(right.children, 0, left.children, left.count + 1, right.count + 1);
+            left.count += right.count + 1;
+        }
+        removeKey(parent, i);
+        System.arraycopy(parent.children, i + 2, parent.children, i + 1, parent.count - i);
+        parent.children[parent.count + 1] = null;
+    }
+
+    private void insertKey(Node node, int pos, Object key){
+        System.arraycopy(node.keys, pos, node.keys, pos + 1, node.count - pos);
+        node.keys[pos] = key;
+        node.count++;
+    }
+
+    private void removeKey(Node node, int pos){
+        System.arraycopy(node.keys, pos + 1, node.keys, pos, node.count - pos - 1);
+        node.keys[--node.count] = null;
+    }
+
+    private void clearPath(int depth){
+        while (depth > 0) pathNodes[--depth] = null;
+    }
+
+    // Binary search of the node's keys, returns the index of the value or (-(insertion point) - 1)
+    private int search(Node node, T value){
+        Object[] keys = node.keys;
+        int lo = 0;
+        int hi = node.count - 1;
+        while (lo <= hi){
+            int mid = (lo + hi) >>> 1;
+            int cmp = ((T) keys[mid]).compareTo(value);
+            if(cmp < 0) lo = mid + 1;
+            else if(cmp > 0) hi = mid - 1;
+            else return mid;
+        }
+        return -(lo + 1);
+    }
+
+    // The child of an inner node whose range holds the value, one past the last separator <= value
+    private int childIndex(Node node, T value){
+        int pos = search(node, value);
+        return pos >= 0 ? pos + 1 : -pos - 1;
+    }
+
+    // Returns an iterator over the values in order, walking the linked leaves
+    public Iterator<T> iterator() {
+        Node leaf = root;
+        while (leaf != null && !leaf.isLeaf()) leaf = leaf.children[0];
+        return new LeafIterator(leaf, 0, null);
+    }
+
+    // Returns an iterator over the values in [lo, hi] in order. It descends once to the leaf holding lo and
+    // then follows the leaf links, so reading m values costs O(log(n) + m).
+    public Iterator<T> rangeIterator(T lo, T hi){
+        if(root == null) return new LeafIterator(null, 0, hi);
+        Node leaf = root;
+        while (!leaf.isLeaf()) leaf = leaf.children[childIndex(leaf, lo)];
+        int pos = search(leaf, lo);
+        return new LeafIterator(leaf, pos >= 0 ? pos : -pos - 1, hi);
+    }
+
+    private class LeafIterator implements Iterator<T> {
+        final int expectedModificationCount = modificationCount;
+        // The upper bound of the range, null to run to the end
+        final T hi;
+        Node leaf;
+        int pos;
+
+        LeafIterator(Node leaf, int pos, T hi){
+            this.leaf = leaf;
+            this.pos = pos;
+            this.hi = hi;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (expectedModificationCount != modificationCount) throw new ConcurrentModificationException();
+            // Only the first leaf can be exhausted up front, the others are never empty
+            if (leaf != null && pos == leaf.count){
+                leaf = leaf.next;
+                pos = 0;
+            }
+            return leaf != null && (hi == null || ((T) leaf.keys[pos]).compareTo(hi) <= 0);
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return (T) leaf.keys[pos++];
+        }
+    }
+}
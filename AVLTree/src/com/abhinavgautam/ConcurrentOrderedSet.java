@@ -0,0 +1,246 @@
+package com.abhinavgautam;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+// Ordered set with the API of AVLTree that any number of threads can read and write at once, a lock-free skip
+// list (Herlihy and Shavit's variant of Harris's list). A value is in the set while its node is linked on the
+// bottom level and not marked. remove marks the node's next references from the top level down, the thread
+// whose mark lands on the bottom level owns the removal, and every traversal that meets a marked node helps
+// to snip it out. contains never writes and never retries: it reads through marked nodes instead of unlinking
+// them, so a lookup finishes in a bounded number of steps whatever the writers do. Iterators walk the bottom
+// level and are weakly consistent: they never throw ConcurrentModificationException, return every value that
+// was in the set for their whole run, and may or may not return values added or removed while they run.
+// A marked reference is a Marker node standing in for the successor, as in ConcurrentSkipListMap.
+@SuppressWarnings("unchecked")
+public class ConcurrentOrderedSet<T extends Comparable<T>> implements Iterable<T> {
+
+    // Enough levels for tens of millions of values
+    private static final int MAX_LEVEL = 24;
+
+    private static class Node<T> {
+        final T value;
+        // next[level] is the successor on that level, or a Marker once the node is being removed
+        final Node<T>[] next;
+
+        Node(T value, int topLevel){
+            this.value = value;
+            next = (Node<T>[]) new Node[topLevel + 1];
+        }
+
+        int topLevel(){
+            return next.length - 1;
+        }
+    }
+
+    // Replaces the successor reference of a node that is being removed
+    private static final class Marker<T> extends Node<T> {
+        final Node<T> successor;
+
+        Marker(Node<T> successor){
+            super(null, -1);
+            this.successor = successor;
+        }
+    }
+
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Node[].class);
+
+    // Sentinels, head sorts before and tail after every value
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private final Node<T> tail = new Node<>(null, MAX_LEVEL);
+
+    // Striped, so that writers on different cores don't fight over one counter
+    private final LongAdder valueCount = new LongAdder();
+
+    public ConcurrentOrderedSet(){
+        for (int i = 0; i <= MAX_LEVEL; i++) head.next[i] = tail;
+    }
+
+    // Returns the number of values in the set, only a snapshot while other threads are writing
+    public int size(){
+        return (int) Math.max(0, valueCount.sum());
+    }
+
+    // Returns whether or not set is empty
+    public boolean isEmpty(){
+        return !iterator().hasNext();
+    }
+
+    // Returns true/false depending on whether or not a value exists in the set, O(log(n)) expected. Never
+    // blocks and never writes: nodes that are being removed are read through rather than unlinked, and only
+    // the node holding the value has its mark checked.
+    public boolean contains(T value){
+        if(value == null) return false;
+        Node<T> pred = head;
+        Node<T> curr = null;
+        for (int level = MAX_LEVEL; level >= 0; level--) {
+            curr = successor(pred, level);
+            while (curr != tail && curr.value.compareTo(value) < 0){
+                pred = curr;
+                curr = successor(curr, level);
+            }
+        }
+        return curr != tail && curr.value.compareTo(value) == 0 && !(next(curr, 0) instanceof Marker);
+    }
+
+    // Insert a value to the set. The value must not be null. O(log(n)) expected
+    public boolean insert(T value){
+        if(value == null) return false;
+        int topLevel = randomLevel();
+        Node<T>[] preds = (Node<T>[]) new Node[MAX_LEVEL + 1];
+        Node<T>[] succs = (Node<T>[]) new Node[MAX_LEVEL + 1];
+        while (true){
+            if(find(value, preds, succs)) return false;
+            Node<T> node = new Node<>(value, topLevel);
+            for (int level = 0; level <= topLevel; level++) node.next[level] = succs[level];
+            // Linking the bottom level makes the value part of the set
+            if(!NEXT.compareAndSet(preds[0].next, 0, succs[0], node)) continue;
+            valueCount.increment();
+            // The upper levels are only shortcuts, they are linked one after another
+            for (int level = 1; level <= topLevel; level++) {
+                while (true){
+                    Node<T> succ = next(node, level);
+                    // A remove has started on the node already, it mustn't be linked any further
+                    if(succ instanceof Marker) return true;
+                    if(succ != succs[level] && !NEXT.compareAndSet(node.next, level, succ, succs[level])) continue;
+                    if(NEXT.compareAndSet(preds[level].next, level, succs[level], node)) break;
+                    find(value, preds, succs);
+                    // The node was removed and snipped out while we weren't looking
+                    if(succs[0] != node) return true;
+                }
+            }
+            return true;
+        }
+    }
+
+    // Remove a value from this set if it exists, O(log(n)) expected
+    public boolean remove(T elem){
+        if(elem == null) return false;
+        Node<T>[] preds = (Node<T>[]) new Node[MAX_LEVEL + 1];
+        Node<T>[] succs = (Node<T>[]) new Node[MAX_LEVEL + 1];
+        if(!find(elem, preds, succs)) return false;
+        Node<T> node = succs[0];
+
+        // Mark the upper levels, whoever marks them doesn't matter
+        for (int level = node.topLevel(); level >= 1; level--) {
+            while (true){
+                Node<T> succ = next(node, level);
+                if(succ instanceof Marker || NEXT.compareAndSet(node.next, level, succ, new Marker<>(succ))) break;
+            }
+        }
+        // The thread that marks the bottom level removed the value
+        while (true){
+            Node<T> succ = next(node, 0);
+            if(succ instanceof Marker) return false;
+            if(NEXT.compareAndSet(node.next, 0, succ, new Marker<>(succ))){
+                valueCount.decrement();
+                find(elem, preds, succs);
+                return true;
+            }
+        }
+    }
+
+    //Fills preds and succs with the nodes around the position of the value on every level, unlinking marked
+    //nodes on the way. Returns true if the bottom level holds the value.
+    private boolean find(T value, Node<T>[] preds, Node<T>[] succs){
+        retry:
+        while (true){
+            Node<T> pred = head;
+            Node<T> curr = null;
+            for (int level = MAX_LEVEL; level >= 0; level--) {
+                curr = next(pred, level);
+                // pred was marked after we stepped onto it, start over from the head
+                if(curr instanceof Marker) continue retry;
+                while (true){
+                    Node<T> succ = next(curr, level);
+                    while (succ instanceof Marker){
+                        // curr is being removed, help by swinging pred past it
+                        succ = ((Marker<T>) succ).successor;
+                        if(!NEXT.compareAndSet(pred.next, level, curr, succ)) continue retry;
+                        curr = succ;
+                        succ = next(curr, level);
+                    }
+                    if(curr != tail && curr.value.compareTo(value) < 0){
+                        pred = curr;
+                        curr = succ;
+                    }else{
+                        break;
+                    }
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return curr != tail && curr.value.compareTo(value) == 0;
+        }
+    }
+
+    //The raw reference at next[level], which may be a Marker
+    private static <T> Node<T> next(Node<T> node, int level){
+        return (Node<T>) NEXT.getAcquire(node.next, level);
+    }
+
+    //The successor on a level whether or not the node is marked
+    private static <T> Node<T> successor(Node<T> node, int level){
+        Node<T> succ = next(node, level);
+        return succ instanceof Marker ? ((Marker<T>) succ).successor : succ;
+    }
+
+    //Geometric level, each level is half as likely as the one below it
+    private static int randomLevel(){
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << MAX_LEVEL));
+    }
+
+    // Returns a weakly consistent iterator over the values in order
+    public Iterator<T> iterator() {
+        return new BottomLevelIterator(successor(head, 0), null);
+    }
+
+    // Returns a weakly consistent iterator over the values in [lo, hi] in order. It seeks with find, which only
+    // steps along links of nodes that are still in the set, so reading m values costs O(log(n) + m) expected.
+    public Iterator<T> rangeIterator(T lo, T hi){
+        Node<T>[] preds = (Node<T>[]) new Node[MAX_LEVEL + 1];
+        Node<T>[] succs = (Node<T>[]) new Node[MAX_LEVEL + 1];
+        find(lo, preds, succs);
+        return new BottomLevelIterator(succs[0], hi);
+    }
+
+    private class BottomLevelIterator implements Iterator<T> {
+        // The upper bound of the range, null to run to the end
+        final T hi;
+        // The node whose value next() returns
+        Node<T> node;
+        // The value next() returns, read when the node was still in the set, null at the end
+        T nextValue;
+
+        BottomLevelIterator(Node<T> node, T hi){
+            this.node = node;
+            this.hi = hi;
+            advance();
+        }
+
+        // Skips the nodes removed since we stepped onto them and holds on to the value of the first live one, so
+        // a value hasNext() promised is still returned if it is removed before next() is called
+        private void advance(){
+            while (node != tail && ConcurrentOrderedSet.next(node, 0) instanceof Marker) node = successor(node, 0);
+            nextValue = node != tail && (hi == null || node.value.compareTo(hi) <= 0) ? node.value : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextValue != null;
+        }
+
+        @Override
+        public T next() {
+            if (nextValue == null) throw new NoSuchElementException();
+            T value = nextValue;
+            node = successor(node, 0);
+            advance();
+            return value;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.abhinavgautam;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+// AVLTree with persistent nodes. insert and remove never change a node that is reachable from a published
+// root: they copy the O(log(n)) nodes on the path to the value and publish a new root, and everything off the
+// path is shared with the previous version. A snapshot is therefore just the current root, O(1), and readers of
+// a snapshot or an iterator keep seeing that version however the tree moves on, without ever blocking a
+// writer. Writers publish with a CAS on the root and retry if another writer got there first.
+// Bulk loads go through a Builder, which marks the nodes it creates as its own and changes those in place, so
+// it only copies nodes it shares with a published tree, once each.
+public class PersistentAVLTree<T extends Comparable<T>> implements Iterable<T> {
+
+    static final class Node<T> {
+        T value;
+        Node<T> left, right;
+        // Edges to the furthest leaf, 0 for a leaf
+        int height;
+        // The number of nodes in this subtree
+        int size = 1;
+        // The builder edit that may still change this node in place. Once a builder publishes, it moves on to a
+        // new edit, and nodes created by insert and remove have none
+        Object owner;
+
+        Node(T value, Object owner){
+            this.value = value;
+            this.owner = owner;
+        }
+
+        Node(Node<T> node, Object owner){
+            value = node.value;
+            left = node.left;
+            right = node.right;
+            height = node.height;
+            size = node.size;
+            this.owner = owner;
+        }
+    }
+
+    // An AVL tree of 2^31 nodes is less than 45 levels high
+    private static final int MAX_HEIGHT = 64;
+
+    private final AtomicReference<Node<T>> root;
+
+    public PersistentAVLTree(){
+        this(null);
+    }
+
+    private PersistentAVLTree(Node<T> root){
+        this.root = new AtomicReference<>(root);
+    }
+
+    // Returns a tree holding the current version. Later changes to either tree don't show in the other. O(1)
+    public PersistentAVLTree<T> snapshot(){
+        return new PersistentAVLTree<>(root.get());
+    }
+
+    // Returns a builder that starts from the current version
+    public Builder<T> toBuilder(){
+        return new Builder<>(root.get());
+    }
+
+    // The height of the rooted tree is the number of the edges between the tree's root and the furthest leaf.
+    public int height(){
+        Node<T> node = root.get();
+        return node == null ? 0 : node.height;
+    }
+
+    // Returns the number of nodes in the tree.
+    public int size(){
+        return sizeOf(root.get());
+    }
+
+    // Returns whether or not tree is empty
+    public boolean isEmpty(){
+        return root.get() == null;
+    }
+
+    // Returns true/false depending on whether or not a value exists in the tree
+    public boolean contains(T value){
+        return contains(root.get(), value);
+    }
+
+    // Insert a value to the tree. The value must not be null. Copies O(log(n)) nodes
+    public boolean insert(T value){
+        if(value == null) return false;
+        while (true){
+            Node<T> current = root.get();
+            Node<T> next = insert(current, value, null, newPath(), new boolean[MAX_HEIGHT]);
+            if(next == current) return false;
+            if(root.compareAndSet(current, next)) return true;
+        }
+    }
+
+    // Remove a value from this tree if it exists. Copies O(log(n)) nodes
+    public boolean remove(T elem){
+        if(elem == null) return false;
+        while (true){
+            Node<T> current = root.get();
+            Node<T> next = remove(current, elem, null, newPath(), new boolean[MAX_HEIGHT]);
+            if(next == current) return false;
+            if(root.compareAndSet(current, next)) return true;
+        }
+    }
+
+    // Returns an iterator over the version current at the time of the call, it never sees later changes
+    public Iterator<T> iterator() {
+        return iterator(root.get());
+    }
+
+    // Changes one tree in place through a series of inserts and removes, then publishes it with build(). Nodes
+    // created by the builder are changed in place until they are published, nodes of a published tree are
+    // copied the first time the builder touches them. Not safe for use by several threads at once.
+    public static class Builder<T extends Comparable<T>> {
+        // Marks the nodes this builder may still change, replaced whenever a version is published
+        private Object edit = new Object();
+        private Node<T> root;
+
+        // The path of the current insert or remove, reused between calls
+        private final Node<T>[] path = newPath();
+        private final boolean[] wentLeft = new boolean[MAX_HEIGHT];
+
+        public Builder(){
+        }
+
+        private Builder(Node<T> root){
+            this.root = root;
+        }
+
+        public boolean insert(T value){
+            if(value == null) return false;
+            int before = sizeOf(root);
+            root = PersistentAVLTree.insert(root, value, edit, path, wentLeft);
+            return sizeOf(root) != before;
+        }
+
+        public boolean remove(T elem){
+            if(elem == null) return false;
+            int before = sizeOf(root);
+            root = PersistentAVLTree.remove(root, elem, edit, path, wentLeft);
+            return sizeOf(root) != before;
+        }
+
+        public boolean contains(T value){
+            return PersistentAVLTree.contains(root, value);
+        }
+
+        public int size(){
+            return sizeOf(root);
+        }
+
+        // Returns a tree holding the values added so far. The builder can go on, it copies what it shares
+        // with the tree from now on. O(1)
+        public PersistentAVLTree<T> build(){
+            edit = new Object();
+            return new PersistentAVLTree<>(root);
+        }
+    }
+
+    private static <T extends Comparable<T>> boolean contains(Node<T> node, T value){
+        while (node != null){
+            int cmp = value.compareTo(node.value);
+            if(cmp == 0) return true;
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newPath(){
+        return (Node<T>[]) new Node[MAX_HEIGHT];
+    }
+
+    // Returns the root of a tree that also holds the value, or the same root if it was there already. Nodes
+    // owned by edit are changed in place, all others on the path are copied.
+    private static <T extends Comparable<T>> Node<T> insert(Node<T> root, T value, Object edit, Node<T>[] path, boolean[] wentLeft){
+        int depth = 0;
+        Node<T> node = root;
+        while (node != null){
+            int cmp = value.compareTo(node.value);
+            if(cmp == 0){
+                clearPath(path, depth);
+                return root;
+            }
+            path[depth] = node;
+            wentLeft[depth++] = cmp < 0;
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return rebuild(path, wentLeft, depth, new Node<>(value, edit), -1, null, edit);
+    }
+
+    // Returns the root of a tree without the value, or the same root if it wasn't there
+    private static <T extends Comparable<T>> Node<T> remove(Node<T> root, T elem, Object edit, Node<T>[] path, boolean[] wentLeft){
+        int depth = 0;
+        Node<T> node = root;
+        while (node != null){
+            int cmp = elem.compareTo(node.value);
+            if(cmp == 0) break;
+            path[depth] = node;
+            wentLeft[depth++] = cmp < 0;
+            node = cmp < 0 ? node.left : node.right;
+        }
+        if(node == null){
+            clearPath(path, depth);
+            return root;
+        }
+
+        // A node with two children takes the value of its successor from the taller subtree, the node that
+        // held the successor has at most one child and is the one dropped
+        int target = -1;
+        if(node.left != null && node.right != null){
+            target = depth;
+            path[depth] = node;
+            boolean left = node.left.height > node.right.height;
+            wentLeft[depth++] = left;
+            node = left ? node.left : node.right;
+            while ((left ? node.right : node.left) != null){
+                path[depth] = node;
+                wentLeft[depth++] = !left;
+                node = left ? node.right : node.left;
+            }
+        }
+        Node<T> child = node.left != null ? node.left : node.right;
+        return rebuild(path, wentLeft, depth, child, target, node.value, edit);
+    }
+
+    // Walks the path bottom up, hanging child below the first node and every rebuilt subtree below the node
+    // above it, re-balancing as it goes. The node at index target takes the value replacement.
+    private static <T extends Comparable<T>> Node<T> rebuild(Node<T>[] path, boolean[] wentLeft, int depth, Node<T> child,
+                                                             int target, T replacement, Object edit){
+        for (int i = depth - 1; i >= 0; i--) {
+            Node<T> node = editable(path[i], edit);
+            path[i] = null;
+            if(wentLeft[i]) node.left = child;
+            else node.right = child;
+            if(i == target) node.value = replacement;
+            update(node);
+            child = balance(node, edit);
+        }
+        return child;
+    }
+
+    // The builder reuses its path, so references to nodes it no longer holds mustn't stay behind
+    private static void clearPath(Node<?>[] path, int depth){
+        while (depth > 0) path[--depth] = null;
+    }
+
+    // The node itself if edit owns it, otherwise a copy that edit owns
+    private static <T> Node<T> editable(Node<T> node, Object edit){
+        if(edit != null && node.owner == edit) return node;
+        return new Node<>(node, edit);
+    }
+
+    private static int sizeOf(Node<?> node){
+        return node == null ? 0 : node.size;
+    }
+
+    // Updates the height and size values, the balance factor is worked out from the heights when needed
+    private static void update(Node<?> node){
+        int leftNodeHeight = node.left == null ? -1 : node.left.height;
+        int rightNodeHeight = node.right == null ? -1 : node.right.height;
+        node.height = 1 + Math.max(leftNodeHeight, rightNodeHeight);
+        node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+    }
+
+    private static int balanceFactor(Node<?> node){
+        int leftNodeHeight = node.left == null ? -1 : node.left.height;
+        int rightNodeHeight = node.right == null ? -1 : node.right.height;
+        return rightNodeHeight - leftNodeHeight;
+    }
+
+    // Re-balance the subtree of an editable node, copying the children a rotation has to change
+    private static <T> Node<T> balance(Node<T> node, Object edit){
+        int bf = balanceFactor(node);
+        // Left heavy subtree
+        if(bf == -2){
+            if(balanceFactor(node.left) > 0) node.left = leftRotation(editable(node.left, edit), edit);
+            return rightRotation(node, edit);
+        // Right heavy subtree
+        }else if(bf == 2){
+            if(balanceFactor(node.right) < 0) node.right = rightRotation(editable(node.right, edit), edit);
+            return leftRotation(node, edit);
+        }
+        return node;
+    }
+
+    private static <T> Node<T> rightRotation(Node<T> node, Object edit){
+        Node<T> newParent = editable(node.left, edit);
+        node.left = newParent.right;
+        newParent.right = node;
+        update(node);
+        update(newParent);
+        return newParent;
+    }
+
+    private static <T> Node<T> leftRotation(Node<T> node, Object edit){
+        Node<T> newParent = editable(node.right, edit);
+        node.right = newParent.left;
+        newParent.left = node;
+        update(node);
+        update(newParent);
+        return newParent;
+    }
+
+    private static <T> Iterator<T> iterator(Node<T> root){
+        final ArrayDeque<Node<T>> stack = new ArrayDeque<>();
+        for (Node<T> trav = root; trav != null; trav = trav.left) stack.push(trav);
+
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (stack.isEmpty()) throw new NoSuchElementException();
+                Node<T> node = stack.pop();
+                for (Node<T> trav = node.right; trav != null; trav = trav.left) stack.push(trav);
+                return node.value;
+            }
+        };
+    }
+}
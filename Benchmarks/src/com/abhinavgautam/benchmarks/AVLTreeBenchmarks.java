@@ -0,0 +1,184 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.AVLTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Iterator;
+import java.util.TreeMap;
+
+// insert/contains/remove/iterate for the AVL tree, side by side with java.util.TreeMap. The order statistics
+// have no TreeMap counterpart in O(log(n)) and are measured on their own. A range scan pass makes at most
+// RANGE_PROBES probes that read about RANGE_LENGTH values each.
+public class AVLTreeBenchmarks extends KeyedBenchmark {
+
+    private static final int RANGE_LENGTH = 100;
+    private static final int RANGE_PROBES = 10_000;
+
+    Integer[] keys, probes;
+    // Each probe reads the keys in a window that holds RANGE_LENGTH of them on average
+    int width, probeCount;
+
+    @Setup
+    public void generate(){
+        keys = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+        probes = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 43));
+        width = (int) Math.min(Integer.MAX_VALUE, (long) Integer.MAX_VALUE / size * RANGE_LENGTH);
+        probeCount = Math.min(size, RANGE_PROBES);
+    }
+
+    @State(Scope.Thread)
+    public static class Filled {
+        AVLTree<Integer> tree;
+        TreeMap<Integer,Boolean> treeMap;
+
+        @Setup
+        public void fill(AVLTreeBenchmarks suite){
+            tree = avlTree(suite.keys);
+            treeMap = treeMap(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TreeRefilled {
+        AVLTree<Integer> tree;
+
+        @Setup(Level.Invocation)
+        public void fill(AVLTreeBenchmarks suite){
+            tree = avlTree(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TreeMapRefilled {
+        TreeMap<Integer,Boolean> map;
+
+        @Setup(Level.Invocation)
+        public void fill(AVLTreeBenchmarks suite){
+            map = treeMap(suite.keys);
+        }
+    }
+
+    @Benchmark
+    public int insertAVLTree(){
+        AVLTree<Integer> tree = new AVLTree<>();
+        for (Integer key : keys) tree.insert(key);
+        return tree.size();
+    }
+
+    @Benchmark
+    public int insertTreeMap(){
+        TreeMap<Integer,Boolean> map = new TreeMap<>();
+        for (Integer key : keys) map.put(key, Boolean.TRUE);
+        return map.size();
+    }
+
+    @Benchmark
+    public long containsAVLTree(Filled filled){
+        long found = 0;
+        for (Integer key : keys) if (filled.tree.contains(key)) found++;
+        return found;
+    }
+
+    @Benchmark
+    public long containsTreeMap(Filled filled){
+        long found = 0;
+        for (Integer key : keys) if (filled.treeMap.containsKey(key)) found++;
+        return found;
+    }
+
+    @Benchmark
+    public int removeAVLTree(TreeRefilled refilled){
+        for (Integer key : keys) refilled.tree.remove(key);
+        return refilled.tree.size();
+    }
+
+    @Benchmark
+    public int removeTreeMap(TreeMapRefilled refilled){
+        for (Integer key : keys) refilled.map.remove(key);
+        return refilled.map.size();
+    }
+
+    @Benchmark
+    public long iterateAVLTree(Filled filled){
+        long sum = 0;
+        for (Integer key : filled.tree) sum += key;
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateTreeMap(Filled filled){
+        long sum = 0;
+        for (Integer key : filled.treeMap.keySet()) sum += key;
+        return sum;
+    }
+
+    @Benchmark
+    public long floorAVLTree(Filled filled){
+        long sum = 0;
+        for (Integer probe : probes) {
+            Integer floor = filled.tree.floor(probe);
+            if (floor != null) sum += floor;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long floorTreeMap(Filled filled){
+        long sum = 0;
+        for (Integer probe : probes) {
+            Integer floor = filled.treeMap.floorKey(probe);
+            if (floor != null) sum += floor;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rankAVLTree(Filled filled){
+        long sum = 0;
+        for (Integer probe : probes) sum += filled.tree.rank(probe);
+        return sum;
+    }
+
+    @Benchmark
+    public long selectAVLTree(Filled filled){
+        AVLTree<Integer> tree = filled.tree;
+        long sum = 0;
+        for (Integer probe : probes) sum += tree.select((int) ((long) probe * tree.size() / Integer.MAX_VALUE));
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeScanAVLTree(Filled filled){
+        long sum = 0;
+        for (int i = 0; i < probeCount; i++) {
+            Iterator<Integer> it = filled.tree.rangeIterator(probes[i], probes[i] + Math.min(width, Integer.MAX_VALUE - probes[i]));
+            while (it.hasNext()) sum += it.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeScanTreeMap(Filled filled){
+        long sum = 0;
+        for (int i = 0; i < probeCount; i++) {
+            for (Integer key : filled.treeMap.subMap(probes[i], true, probes[i] + Math.min(width, Integer.MAX_VALUE - probes[i]), true).keySet()) sum += key;
+        }
+        return sum;
+    }
+
+    static AVLTree<Integer> avlTree(Integer[] keys){
+        AVLTree<Integer> tree = new AVLTree<>();
+        for (Integer key : keys) tree.insert(key);
+        return tree;
+    }
+
+    static TreeMap<Integer,Boolean> treeMap(Integer[] keys){
+        TreeMap<Integer,Boolean> map = new TreeMap<>();
+        for (Integer key : keys) map.put(key, Boolean.TRUE);
+        return map;
+    }
+}
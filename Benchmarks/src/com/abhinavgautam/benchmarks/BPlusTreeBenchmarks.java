@@ -0,0 +1,229 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.AVLTree;
+import com.abhinavgautam.BPlusTree;
+import com.abhinavgautam.LongBPlusTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.TreeMap;
+
+// The B+trees against java.util.TreeMap, with AVLTree alongside: point lookups, a full in-order scan and
+// range scans that read about RANGE_LENGTH keys from each of at most RANGE_PROBES probes. contains also runs
+// over a few node capacities of LongBPlusTree to show where a wider node stops paying for its longer binary
+// search.
+public class BPlusTreeBenchmarks extends KeyedBenchmark {
+
+    private static final int RANGE_LENGTH = 100;
+    private static final int RANGE_PROBES = 10_000;
+
+    int[] values, probes;
+    Integer[] keys;
+    // Each probe reads the keys in a window that holds RANGE_LENGTH of them on average
+    int width;
+
+    @Setup
+    public void generate(){
+        values = distribution.generate(size, Integer.MAX_VALUE, 42);
+        keys = KeyDistribution.box(values);
+        width = (int) Math.min(Integer.MAX_VALUE, (long) Integer.MAX_VALUE / size * RANGE_LENGTH);
+        probes = distribution.generate(Math.min(size, RANGE_PROBES), Integer.MAX_VALUE - width, 43);
+    }
+
+    @State(Scope.Thread)
+    public static class Filled {
+        BPlusTree<Integer> bPlusTree;
+        LongBPlusTree longBPlusTree;
+        AVLTree<Integer> avlTree;
+        TreeMap<Integer,Boolean> treeMap;
+
+        @Setup
+        public void fill(BPlusTreeBenchmarks suite){
+            bPlusTree = bPlusTree(suite.keys);
+            longBPlusTree = longBPlusTree(new LongBPlusTree(), suite.values);
+            avlTree = AVLTreeBenchmarks.avlTree(suite.keys);
+            treeMap = AVLTreeBenchmarks.treeMap(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class NodeCapacity {
+        @Param({"8", "16", "32", "64", "128"})
+        public int capacity;
+        LongBPlusTree tree;
+
+        @Setup
+        public void fill(BPlusTreeBenchmarks suite){
+            tree = longBPlusTree(new LongBPlusTree(capacity), suite.values);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class BPlusTreeRefilled {
+        BPlusTree<Integer> tree;
+
+        @Setup(Level.Invocation)
+        public void fill(BPlusTreeBenchmarks suite){
+            tree = bPlusTree(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TreeMapRefilled {
+        TreeMap<Integer,Boolean> map;
+
+        @Setup(Level.Invocation)
+        public void fill(BPlusTreeBenchmarks suite){
+            map = AVLTreeBenchmarks.treeMap(suite.keys);
+        }
+    }
+
+    @Benchmark
+    public int insertBPlusTree(){
+        BPlusTree<Integer> tree = new BPlusTree<>();
+        for (Integer key : keys) tree.insert(key);
+        return tree.size();
+    }
+
+    @Benchmark
+    public int insertLongBPlusTree(){
+        LongBPlusTree tree = new LongBPlusTree();
+        for (int value : values) tree.insert(value);
+        return tree.size();
+    }
+
+    @Benchmark
+    public int insertAVLTree(){
+        AVLTree<Integer> tree = new AVLTree<>();
+        for (Integer key : keys) tree.insert(key);
+        return tree.size();
+    }
+
+    @Benchmark
+    public int insertTreeMap(){
+        TreeMap<Integer,Boolean> map = new TreeMap<>();
+        for (Integer key : keys) map.put(key, Boolean.TRUE);
+        return map.size();
+    }
+
+    @Benchmark
+    public long containsBPlusTree(Filled filled){
+        long found = 0;
+        for (Integer key : keys) if (filled.bPlusTree.contains(key)) found++;
+        return found;
+    }
+
+    @Benchmark
+    public long containsLongBPlusTree(NodeCapacity node){
+        long found = 0;
+        for (int value : values) if (node.tree.contains(value)) found++;
+        return found;
+    }
+
+    @Benchmark
+    public long containsAVLTree(Filled filled){
+        long found = 0;
+        for (Integer key : keys) if (filled.avlTree.contains(key)) found++;
+        return found;
+    }
+
+    @Benchmark
+    public long containsTreeMap(Filled filled){
+        long found = 0;
+        for (Integer key : keys) if (filled.treeMap.containsKey(key)) found++;
+        return found;
+    }
+
+    @Benchmark
+    public int removeBPlusTree(BPlusTreeRefilled refilled){
+        for (Integer key : keys) refilled.tree.remove(key);
+        return refilled.tree.size();
+    }
+
+    @Benchmark
+    public int removeTreeMap(TreeMapRefilled refilled){
+        for (Integer key : keys) refilled.map.remove(key);
+        return refilled.map.size();
+    }
+
+    @Benchmark
+    public long scanBPlusTree(Filled filled){
+        long sum = 0;
+        for (Integer key : filled.bPlusTree) sum += key;
+        return sum;
+    }
+
+    @Benchmark
+    public long scanLongBPlusTree(Filled filled){
+        long sum = 0;
+        for (PrimitiveIterator.OfLong it = filled.longBPlusTree.iterator(); it.hasNext(); ) sum += it.nextLong();
+        return sum;
+    }
+
+    @Benchmark
+    public long scanAVLTree(Filled filled){
+        long sum = 0;
+        for (Integer key : filled.avlTree) sum += key;
+        return sum;
+    }
+
+    @Benchmark
+    public long scanTreeMap(Filled filled){
+        long sum = 0;
+        for (Integer key : filled.treeMap.keySet()) sum += key;
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeScanBPlusTree(Filled filled){
+        long sum = 0;
+        for (int probe : probes) {
+            for (Iterator<Integer> it = filled.bPlusTree.rangeIterator(probe, probe + width); it.hasNext(); ) sum += it.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeScanLongBPlusTree(Filled filled){
+        long sum = 0;
+        for (int probe : probes) {
+            for (PrimitiveIterator.OfLong it = filled.longBPlusTree.rangeIterator(probe, probe + width); it.hasNext(); ) sum += it.nextLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeScanAVLTree(Filled filled){
+        long sum = 0;
+        for (int probe : probes) {
+            for (Iterator<Integer> it = filled.avlTree.rangeIterator(probe, probe + width); it.hasNext(); ) sum += it.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long rangeScanTreeMap(Filled filled){
+        long sum = 0;
+        for (int probe : probes) {
+            for (Integer key : filled.treeMap.subMap(probe, true, probe + width, true).keySet()) sum += key;
+        }
+        return sum;
+    }
+
+    private static BPlusTree<Integer> bPlusTree(Integer[] keys){
+        BPlusTree<Integer> tree = new BPlusTree<>();
+        for (Integer key : keys) tree.insert(key);
+        return tree;
+    }
+
+    private static LongBPlusTree longBPlusTree(LongBPlusTree tree, int[] values){
+        for (int value : values) tree.insert(value);
+        return tree;
+    }
+}
@@ -0,0 +1,130 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.HashTableQuadraticProbing;
+import com.abhinavgautam.HashTableSeparateChaining;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// The batch operations of the hash tables against a loop of single operations over the same keys. Half the
+// lookups hit.
+public class BulkHashTableBenchmarks extends KeyedBenchmark {
+
+    Integer[] keys, lookups, out;
+
+    @Setup
+    public void generate(){
+        keys = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+        lookups = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 43));
+        System.arraycopy(keys, 0, lookups, 0, size / 2);
+        out = new Integer[size];
+    }
+
+    @State(Scope.Thread)
+    public static class Filled {
+        HashTableQuadraticProbing<Integer,Integer> quadraticProbing;
+        HashTableSeparateChaining<Integer,Integer> separateChaining;
+
+        @Setup
+        public void fill(BulkHashTableBenchmarks suite){
+            quadraticProbing = HashTableBenchmarks.quadraticProbing(suite.keys);
+            separateChaining = HashTableBenchmarks.separateChaining(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class QuadraticProbingRefilled {
+        HashTableQuadraticProbing<Integer,Integer> table;
+
+        @Setup(Level.Invocation)
+        public void fill(BulkHashTableBenchmarks suite){
+            table = HashTableBenchmarks.quadraticProbing(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SeparateChainingRefilled {
+        HashTableSeparateChaining<Integer,Integer> table;
+
+        @Setup(Level.Invocation)
+        public void fill(BulkHashTableBenchmarks suite){
+            table = HashTableBenchmarks.separateChaining(suite.keys);
+        }
+    }
+
+    @Benchmark
+    public int insertAllQuadraticProbing(){
+        HashTableQuadraticProbing<Integer,Integer> table = new HashTableQuadraticProbing<>();
+        table.insertAll(keys, keys);
+        return table.size();
+    }
+
+    @Benchmark
+    public int insertLoopQuadraticProbing(){
+        HashTableQuadraticProbing<Integer,Integer> table = new HashTableQuadraticProbing<>();
+        for (Integer key : keys) table.insert(key, key);
+        return table.size();
+    }
+
+    @Benchmark
+    public Integer[] getAllQuadraticProbing(Filled filled){
+        filled.quadraticProbing.getAll(lookups, out);
+        return out;
+    }
+
+    @Benchmark
+    public Integer[] getLoopQuadraticProbing(Filled filled){
+        for (int i = 0; i < lookups.length; i++) out[i] = filled.quadraticProbing.get(lookups[i]);
+        return out;
+    }
+
+    @Benchmark
+    public int removeAllQuadraticProbing(QuadraticProbingRefilled refilled){
+        return refilled.table.removeAll(lookups);
+    }
+
+    @Benchmark
+    public int removeLoopQuadraticProbing(QuadraticProbingRefilled refilled){
+        for (Integer key : lookups) refilled.table.remove(key);
+        return refilled.table.size();
+    }
+
+    @Benchmark
+    public int insertAllSeparateChaining(){
+        HashTableSeparateChaining<Integer,Integer> table = new HashTableSeparateChaining<>();
+        table.insertAll(keys, keys);
+        return table.size();
+    }
+
+    @Benchmark
+    public int insertLoopSeparateChaining(){
+        HashTableSeparateChaining<Integer,Integer> table = new HashTableSeparateChaining<>();
+        for (Integer key : keys) table.insert(key, key);
+        return table.size();
+    }
+
+    @Benchmark
+    public Integer[] getAllSeparateChaining(Filled filled){
+        filled.separateChaining.getAll(lookups, out);
+        return out;
+    }
+
+    @Benchmark
+    public Integer[] getLoopSeparateChaining(Filled filled){
+        for (int i = 0; i < lookups.length; i++) out[i] = filled.separateChaining.get(lookups[i]);
+        return out;
+    }
+
+    @Benchmark
+    public int removeAllSeparateChaining(SeparateChainingRefilled refilled){
+        return refilled.table.removeAll(lookups);
+    }
+
+    @Benchmark
+    public int removeLoopSeparateChaining(SeparateChainingRefilled refilled){
+        for (Integer key : lookups) refilled.table.remove(key);
+        return refilled.table.size();
+    }
+}
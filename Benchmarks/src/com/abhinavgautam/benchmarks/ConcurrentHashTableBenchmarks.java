@@ -0,0 +1,125 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.ConcurrentHashTableSeparateChaining;
+import com.abhinavgautam.HashTableSeparateChaining;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Multi-threaded get/insert mix (90% get, 10% insert) on a table shared by all benchmark threads, pick the
+// thread count with -t. The lock striped table is reported next to ConcurrentHashMap, plus the single global
+// lock around HashTableSeparateChaining it replaces. Every invocation is one operation of the mix and the score
+// is the throughput of all threads together, so perfect scaling doubles it each time the thread count doubles
+// (given enough cores). The tables are filled again for every iteration so the inserts don't end up all hits.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ConcurrentHashTableBenchmarks extends KeyedBenchmark {
+
+    private static final int WRITE_PERCENT = 10;
+
+    Integer[] keys;
+
+    @Setup
+    public void generate(){
+        keys = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+    }
+
+    // Every thread walks the key array from its own offset
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index, op;
+
+        @Setup
+        public void start(ConcurrentHashTableBenchmarks suite, ThreadParams thread){
+            index = (int) ((long) thread.getThreadIndex() * suite.keys.length / thread.getThreadCount());
+        }
+
+        Integer next(Integer[] keys){
+            Integer key = keys[index];
+            if (++index == keys.length) index = 0;
+            return key;
+        }
+
+        // The first WRITE_PERCENT of every 100 operations write
+        boolean write(){
+            if (++op == 100) op = 0;
+            return op < WRITE_PERCENT;
+        }
+    }
+
+    // Tables are pre-filled with every other key so that gets see both hits and misses
+    @State(Scope.Benchmark)
+    public static class Striped {
+        ConcurrentHashTableSeparateChaining<Integer,Integer> table;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentHashTableBenchmarks suite){
+            table = new ConcurrentHashTableSeparateChaining<>();
+            for (int i = 0; i < suite.keys.length; i += 2) table.insert(suite.keys[i], suite.keys[i]);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaConcurrent {
+        ConcurrentHashMap<Integer,Integer> map;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentHashTableBenchmarks suite){
+            map = new ConcurrentHashMap<>();
+            for (int i = 0; i < suite.keys.length; i += 2) map.put(suite.keys[i], suite.keys[i]);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class GlobalLock {
+        HashTableSeparateChaining<Integer,Integer> table;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentHashTableBenchmarks suite){
+            table = new HashTableSeparateChaining<>();
+            for (int i = 0; i < suite.keys.length; i += 2) table.insert(suite.keys[i], suite.keys[i]);
+        }
+
+        synchronized Integer get(Integer key){
+            return table.get(key);
+        }
+
+        synchronized void insert(Integer key){
+            table.insert(key, key);
+        }
+    }
+
+    @Benchmark
+    public Integer mixConcurrentHashTableSeparateChaining(Striped striped, Cursor cursor){
+        Integer key = cursor.next(keys);
+        if (!cursor.write()) return striped.table.get(key);
+        striped.table.insert(key, key);
+        return key;
+    }
+
+    @Benchmark
+    public Integer mixConcurrentHashMap(JavaConcurrent concurrent, Cursor cursor){
+        Integer key = cursor.next(keys);
+        if (!cursor.write()) return concurrent.map.get(key);
+        concurrent.map.put(key, key);
+        return key;
+    }
+
+    @Benchmark
+    public Integer mixHashTableSeparateChainingLocked(GlobalLock locked, Cursor cursor){
+        Integer key = cursor.next(keys);
+        if (!cursor.write()) return locked.get(key);
+        locked.insert(key);
+        return key;
+    }
+}
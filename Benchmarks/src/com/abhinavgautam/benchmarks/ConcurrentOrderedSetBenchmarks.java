@@ -0,0 +1,130 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.AVLTree;
+import com.abhinavgautam.ConcurrentOrderedSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// A shared index, pick the thread count with -t: the set starts with size keys out of a range of twice as
+// many, and every thread runs a read-mostly mix of READ_PERCENT lookups with the rest split between inserts and
+// removes, so the set keeps its size. The lock-free skip list is compared with ConcurrentSkipListSet and
+// reported next to AVLTree behind a read/write lock. Every invocation is one operation of the mix and the
+// score is the throughput of all threads together.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ConcurrentOrderedSetBenchmarks extends KeyedBenchmark {
+
+    private static final int READ_PERCENT = 90;
+
+    Integer[] keys, probes;
+    int[] choices;
+
+    @Setup
+    public void generate(){
+        keys = KeyDistribution.box(distribution.generate(size, 2 * size, 42));
+        probes = KeyDistribution.box(distribution.generate(size, 2 * size, 43));
+        choices = distribution.generate(size, 100, 44);
+    }
+
+    // Every thread starts from its own offset of the probe array
+    @State(Scope.Thread)
+    public static class Cursor {
+        int at;
+
+        @Setup
+        public void start(ConcurrentOrderedSetBenchmarks suite, ThreadParams thread){
+            at = (int) ((long) thread.getThreadIndex() * suite.probes.length / thread.getThreadCount());
+        }
+
+        void advance(int length){
+            if (++at == length) at = 0;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class SkipList {
+        ConcurrentOrderedSet<Integer> set;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentOrderedSetBenchmarks suite){
+            set = new ConcurrentOrderedSet<>();
+            for (Integer key : suite.keys) set.insert(key);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class JavaSkipList {
+        ConcurrentSkipListSet<Integer> set;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentOrderedSetBenchmarks suite){
+            set = new ConcurrentSkipListSet<>();
+            for (Integer key : suite.keys) set.add(key);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LockedTree {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        AVLTree<Integer> tree;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentOrderedSetBenchmarks suite){
+            tree = AVLTreeBenchmarks.avlTree(suite.keys);
+        }
+
+        boolean insert(Integer key){
+            lock.writeLock().lock();
+            try { return tree.insert(key); } finally { lock.writeLock().unlock(); }
+        }
+
+        boolean remove(Integer key){
+            lock.writeLock().lock();
+            try { return tree.remove(key); } finally { lock.writeLock().unlock(); }
+        }
+
+        boolean contains(Integer key){
+            lock.readLock().lock();
+            try { return tree.contains(key); } finally { lock.readLock().unlock(); }
+        }
+    }
+
+    @Benchmark
+    public boolean mixedConcurrentOrderedSet(SkipList skipList, Cursor cursor){
+        Integer key = probes[cursor.at];
+        int choice = choices[cursor.at];
+        cursor.advance(probes.length);
+        if (choice < READ_PERCENT) return skipList.set.contains(key);
+        return (choice & 1) == 0 ? skipList.set.insert(key) : skipList.set.remove(key);
+    }
+
+    @Benchmark
+    public boolean mixedConcurrentSkipListSet(JavaSkipList skipList, Cursor cursor){
+        Integer key = probes[cursor.at];
+        int choice = choices[cursor.at];
+        cursor.advance(probes.length);
+        if (choice < READ_PERCENT) return skipList.set.contains(key);
+        return (choice & 1) == 0 ? skipList.set.add(key) : skipList.set.remove(key);
+    }
+
+    @Benchmark
+    public boolean mixedAVLTreeLocked(LockedTree locked, Cursor cursor){
+        Integer key = probes[cursor.at];
+        int choice = choices[cursor.at];
+        cursor.advance(probes.length);
+        if (choice < READ_PERCENT) return locked.contains(key);
+        return (choice & 1) == 0 ? locked.insert(key) : locked.remove(key);
+    }
+}
@@ -0,0 +1,164 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.MultiQueue;
+import com.abhinavgautam.PQueue;
+import com.abhinavgautam.SkipListPriorityQueue;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.Arrays;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Multi-threaded hold model, pick the thread count with -t: every thread repeatedly polls an element and adds
+// it back a random distance later, on a queue pre-filled with size elements. The strict skip list queue is
+// reported next to PriorityBlockingQueue, plus the relaxed MultiQueue and PQueue behind a single lock, the
+// setup it replaces. Every invocation is one poll/add pair and the score is the throughput of all threads
+// together. The rank error row samples every RANK_SAMPLE-th poll of the MultiQueue and counts the elements left
+// behind that were lower: the mean rank error is rankError / rankSamples of its secondary results.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ConcurrentPriorityQueueBenchmarks extends KeyedBenchmark {
+
+    private static final int RANK_SAMPLE = 256;
+
+    Integer[] values;
+    int[] steps;
+
+    @Setup
+    public void generate(){
+        values = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE / 2, 42));
+        steps = distribution.generate(size, 1 << 20, 7);
+    }
+
+    // Every thread walks the step array from its own offset
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        @Setup
+        public void start(ConcurrentPriorityQueueBenchmarks suite, ThreadParams thread){
+            index = (int) ((long) thread.getThreadIndex() * suite.steps.length / thread.getThreadCount());
+        }
+
+        // The priority an element polled as min goes back with. The priorities only grow, an iteration of
+        // millions of holds would overflow them, so they wrap around to the front of the queue instead.
+        Integer later(Integer min, int[] steps){
+            int step = steps[index];
+            if (++index == steps.length) index = 0;
+            return (min + step) & Integer.MAX_VALUE;
+        }
+    }
+
+    // The queues are filled again for every iteration
+    @State(Scope.Benchmark)
+    public static class SkipList {
+        SkipListPriorityQueue<Integer> queue;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentPriorityQueueBenchmarks suite){
+            queue = new SkipListPriorityQueue<>();
+            for (Integer value : suite.values) queue.add(value);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Blocking {
+        PriorityBlockingQueue<Integer> queue;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentPriorityQueueBenchmarks suite){
+            queue = new PriorityBlockingQueue<>(suite.values.length);
+            queue.addAll(Arrays.asList(suite.values));
+        }
+    }
+
+    // One pair of queues per benchmark thread
+    @State(Scope.Benchmark)
+    public static class Relaxed {
+        MultiQueue<Integer> queue;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentPriorityQueueBenchmarks suite, BenchmarkParams params){
+            queue = new MultiQueue<>(params.getThreads());
+            for (Integer value : suite.values) queue.add(value);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class GlobalLock {
+        PQueue<Integer> queue;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentPriorityQueueBenchmarks suite){
+            queue = new PQueue<>(Arrays.asList(suite.values));
+        }
+
+        synchronized Integer hold(Cursor cursor, int[] steps){
+            Integer min = queue.poll();
+            queue.add(cursor.later(min, steps));
+            return min;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RankError {
+        public long rankError, rankSamples;
+        int polls;
+
+        @Setup(Level.Iteration)
+        public void reset(){
+            rankError = 0;
+            rankSamples = 0;
+        }
+    }
+
+    @Benchmark
+    public Integer holdSkipListPriorityQueue(SkipList skipList, Cursor cursor){
+        Integer min = skipList.queue.poll();
+        skipList.queue.add(cursor.later(min, steps));
+        return min;
+    }
+
+    @Benchmark
+    public Integer holdPriorityBlockingQueue(Blocking blocking, Cursor cursor){
+        Integer min = blocking.queue.poll();
+        blocking.queue.add(cursor.later(min, steps));
+        return min;
+    }
+
+    @Benchmark
+    public Integer holdMultiQueue(Relaxed relaxed, Cursor cursor){
+        Integer min = relaxed.queue.poll();
+        relaxed.queue.add(cursor.later(min, steps));
+        return min;
+    }
+
+    @Benchmark
+    public Integer holdPQueueLocked(GlobalLock locked, Cursor cursor){
+        return locked.hold(cursor, steps);
+    }
+
+    // rankOf walks the queues, so the sampled run is kept apart from holdMultiQueue's throughput
+    @Benchmark
+    public Integer rankErrorMultiQueue(Relaxed relaxed, Cursor cursor, RankError error){
+        Integer min = relaxed.queue.poll();
+        if (error.polls++ % RANK_SAMPLE == 0) {
+            error.rankError += relaxed.queue.rankOf(min);
+            error.rankSamples++;
+        }
+        relaxed.queue.add(cursor.later(min, steps));
+        return min;
+    }
+}
@@ -0,0 +1,233 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.MpmcQueue;
+import com.abhinavgautam.SpscQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.Control;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Hand-off throughput of the lock-free bounded queues against ArrayBlockingQueue. Every group runs producers
+// offering and consumers polling one element per invocation, both sides spin with Thread.yield() on a full or
+// empty queue instead of blocking; the poll row of a group is the rate of elements handed over. The groups
+// run one producer and one consumer, the MPMC queue is meant to be run with more, e.g. -tg 4,4. The batched
+// SPSC group moves up to BATCH elements per fill/drain call. The roundTrip groups sample the time an element
+// takes to a thread that echoes it back through a second queue, i.e. two hand-offs. The queues don't care
+// about the values, so this suite has no size or key distribution.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentQueueBenchmarks {
+
+    private static final int CAPACITY = 1024;
+    // Elements moved per fill/drain call
+    private static final int BATCH = 64;
+    // A small queue for the round trips, so that the time an element waits behind others stays bounded
+    private static final int LATENCY_CAPACITY = 64;
+    private static final Integer[] VALUES = KeyDistribution.box(KeyDistribution.UNIFORM.generate(1 << 16, Integer.MAX_VALUE, 42));
+
+    // A queue under test, reduced to the non-blocking hand-off
+    interface HandOff {
+        boolean offer(Integer elem);
+        Integer poll();
+    }
+
+    // The queues of one group
+    @State(Scope.Group)
+    public static class Spsc {
+        final HandOff queue = spsc(CAPACITY), ping = spsc(LATENCY_CAPACITY), pong = spsc(LATENCY_CAPACITY);
+        final SpscQueue<Integer> batched = new SpscQueue<>(CAPACITY);
+    }
+
+    @State(Scope.Group)
+    public static class Mpmc {
+        final HandOff queue = mpmc(CAPACITY), ping = mpmc(LATENCY_CAPACITY), pong = mpmc(LATENCY_CAPACITY);
+    }
+
+    @State(Scope.Group)
+    public static class Blocking {
+        final HandOff queue = blocking(CAPACITY), ping = blocking(LATENCY_CAPACITY), pong = blocking(LATENCY_CAPACITY);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        Integer next(){
+            Integer value = VALUES[index];
+            if (++index == VALUES.length) index = 0;
+            return value;
+        }
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public void spscOffer(Spsc spsc, Cursor cursor, Control control){
+        offer(spsc.queue, cursor.next(), control);
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public Integer spscPoll(Spsc spsc, Control control){
+        return poll(spsc.queue, control);
+    }
+
+    @Benchmark
+    @Group("spscBatched")
+    @GroupThreads(1)
+    public int spscFill(Spsc spsc, Cursor cursor, Control control){
+        int added;
+        while ((added = spsc.batched.fill(cursor::next, BATCH)) == 0 && !control.stopMeasurement) Thread.yield();
+        return added;
+    }
+
+    @Benchmark
+    @Group("spscBatched")
+    @GroupThreads(1)
+    public int spscDrain(Spsc spsc, Blackhole blackhole, Control control){
+        int polled;
+        while ((polled = spsc.batched.drain(blackhole::consume, BATCH)) == 0 && !control.stopMeasurement) Thread.yield();
+        return polled;
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(1)
+    public void mpmcOffer(Mpmc mpmc, Cursor cursor, Control control){
+        offer(mpmc.queue, cursor.next(), control);
+    }
+
+    @Benchmark
+    @Group("mpmc")
+    @GroupThreads(1)
+    public Integer mpmcPoll(Mpmc mpmc, Control control){
+        return poll(mpmc.queue, control);
+    }
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(1)
+    public void blockingOffer(Blocking blocking, Cursor cursor, Control control){
+        offer(blocking.queue, cursor.next(), control);
+    }
+
+    @Benchmark
+    @Group("blocking")
+    @GroupThreads(1)
+    public Integer blockingPoll(Blocking blocking, Control control){
+        return poll(blocking.queue, control);
+    }
+
+    @Benchmark
+    @Group("spscRoundTrip")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Integer spscRoundTrip(Spsc spsc, Cursor cursor, Control control){
+        offer(spsc.ping, cursor.next(), control);
+        return poll(spsc.pong, control);
+    }
+
+    @Benchmark
+    @Group("spscRoundTrip")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void spscEcho(Spsc spsc, Control control){
+        echo(spsc.ping, spsc.pong, control);
+    }
+
+    @Benchmark
+    @Group("mpmcRoundTrip")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Integer mpmcRoundTrip(Mpmc mpmc, Cursor cursor, Control control){
+        offer(mpmc.ping, cursor.next(), control);
+        return poll(mpmc.pong, control);
+    }
+
+    @Benchmark
+    @Group("mpmcRoundTrip")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void mpmcEcho(Mpmc mpmc, Control control){
+        echo(mpmc.ping, mpmc.pong, control);
+    }
+
+    @Benchmark
+    @Group("blockingRoundTrip")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Integer blockingRoundTrip(Blocking blocking, Cursor cursor, Control control){
+        offer(blocking.ping, cursor.next(), control);
+        return poll(blocking.pong, control);
+    }
+
+    @Benchmark
+    @Group("blockingRoundTrip")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void blockingEcho(Blocking blocking, Control control){
+        echo(blocking.ping, blocking.pong, control);
+    }
+
+    // The spin loops give up once JMH stops the iteration, the other side may already have stopped
+    private static void offer(HandOff queue, Integer elem, Control control){
+        while (!queue.offer(elem) && !control.stopMeasurement) Thread.yield();
+    }
+
+    private static Integer poll(HandOff queue, Control control){
+        Integer elem;
+        while ((elem = queue.poll()) == null && !control.stopMeasurement) Thread.yield();
+        return elem;
+    }
+
+    private static void echo(HandOff ping, HandOff pong, Control control){
+        Integer elem = poll(ping, control);
+        if (elem != null) offer(pong, elem, control);
+    }
+
+    private static HandOff spsc(int capacity){
+        SpscQueue<Integer> queue = new SpscQueue<>(capacity);
+        return new HandOff() {
+            public boolean offer(Integer elem) { return queue.offer(elem); }
+            public Integer poll() { return queue.poll(); }
+        };
+    }
+
+    private static HandOff mpmc(int capacity){
+        MpmcQueue<Integer> queue = new MpmcQueue<>(capacity);
+        return new HandOff() {
+            public boolean offer(Integer elem) { return queue.offer(elem); }
+            public Integer poll() { return queue.poll(); }
+        };
+    }
+
+    private static HandOff blocking(int capacity){
+        ArrayBlockingQueue<Integer> queue = new ArrayBlockingQueue<>(capacity);
+        return new HandOff() {
+            public boolean offer(Integer elem) { return queue.offer(elem); }
+            public Integer poll() { return queue.poll(); }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.ConcurrentStack;
+import com.abhinavgautam.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.TimeUnit;
+
+// Object pool traffic, pick the thread count with -t: every thread repeatedly pushes an element and pops one,
+// on a stack pre-filled with size elements. The lock-free stack is reported with and without its elimination
+// array, next to Stack guarded by a single lock. Every invocation is one push/pop pair and the score is the
+// throughput of all threads together.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ConcurrentStackBenchmarks extends KeyedBenchmark {
+
+    Integer[] values;
+
+    @Setup
+    public void generate(){
+        values = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+    }
+
+    // Every thread pushes from its own offset of the value array
+    @State(Scope.Thread)
+    public static class Cursor {
+        int index;
+
+        @Setup
+        public void start(ConcurrentStackBenchmarks suite, ThreadParams thread){
+            index = (int) ((long) thread.getThreadIndex() * suite.values.length / thread.getThreadCount());
+        }
+
+        Integer next(Integer[] values){
+            Integer value = values[index];
+            if (++index == values.length) index = 0;
+            return value;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Treiber {
+        ConcurrentStack<Integer> stack;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentStackBenchmarks suite){
+            stack = new ConcurrentStack<>();
+            for (Integer value : suite.values) stack.push(value);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TreiberNoElimination {
+        ConcurrentStack<Integer> stack;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentStackBenchmarks suite){
+            stack = new ConcurrentStack<>(0);
+            for (Integer value : suite.values) stack.push(value);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class GlobalLock {
+        Stack<Integer> stack;
+
+        @Setup(Level.Iteration)
+        public void fill(ConcurrentStackBenchmarks suite){
+            stack = new Stack<>();
+            for (Integer value : suite.values) stack.push(value);
+        }
+
+        synchronized void push(Integer elem){
+            stack.push(elem);
+        }
+
+        synchronized Integer pop(){
+            if (stack.isEmpty()) throw new EmptyStackException();
+            return stack.pop();
+        }
+    }
+
+    @Benchmark
+    public Integer poolConcurrentStack(Treiber treiber, Cursor cursor){
+        treiber.stack.push(cursor.next(values));
+        return treiber.stack.pop();
+    }
+
+    @Benchmark
+    public Integer poolConcurrentStackNoElimination(TreiberNoElimination treiber, Cursor cursor){
+        treiber.stack.push(cursor.next(values));
+        return treiber.stack.pop();
+    }
+
+    @Benchmark
+    public Integer poolStackLocked(GlobalLock locked, Cursor cursor){
+        locked.push(cursor.next(values));
+        return locked.pop();
+    }
+}
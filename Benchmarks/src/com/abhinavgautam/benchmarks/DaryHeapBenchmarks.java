@@ -0,0 +1,144 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.DaryHeap;
+import com.abhinavgautam.LongPriorityQueue;
+import com.abhinavgautam.PQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.PriorityQueue;
+
+// The d-ary heaps against the binary PQueue and java.util.PriorityQueue. addPoll fills a heap and empties it
+// again, hold is the classic steady-state model of event simulation and Dijkstra: poll the minimum and add an
+// element a random distance behind it, so the heap keeps its size while its contents move. A hold pass makes
+// size poll/add pairs. PQueue's map bookkeeping takes seconds per pass beyond 100000 elements, leave
+// addPollPQueue out of runs with larger sizes.
+public class DaryHeapBenchmarks extends KeyedBenchmark {
+
+    int[] values, steps;
+    Integer[] boxed;
+
+    @Setup
+    public void generate(){
+        values = distribution.generate(size, Integer.MAX_VALUE / 2, 42);
+        boxed = KeyDistribution.box(values);
+        steps = distribution.generate(size, 1 << 20, 7);
+    }
+
+    @State(Scope.Thread)
+    public static class Degree {
+        @Param({"2", "4", "8"})
+        public int degree;
+    }
+
+    // The heaps of the hold model, filled again for every pass
+    @State(Scope.Thread)
+    public static class DaryHeapFilled {
+        DaryHeap<Integer> heap;
+
+        @Setup(Level.Invocation)
+        public void fill(DaryHeapBenchmarks suite, Degree degree){
+            heap = new DaryHeap<>(degree.degree, suite.size);
+            for (Integer value : suite.boxed) heap.add(value);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class LongPriorityQueueFilled {
+        LongPriorityQueue queue;
+
+        @Setup(Level.Invocation)
+        public void fill(DaryHeapBenchmarks suite, Degree degree){
+            queue = new LongPriorityQueue(degree.degree, suite.size);
+            for (int value : suite.values) queue.add(LongPriorityQueue.pack(value, value));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PriorityQueueFilled {
+        PriorityQueue<Integer> queue;
+
+        @Setup(Level.Invocation)
+        public void fill(DaryHeapBenchmarks suite){
+            queue = new PriorityQueue<>(suite.size);
+            for (Integer value : suite.boxed) queue.add(value);
+        }
+    }
+
+    @Benchmark
+    public long addPollDaryHeap(Degree degree){
+        DaryHeap<Integer> heap = new DaryHeap<>(degree.degree, size);
+        for (Integer value : boxed) heap.add(value);
+        long sum = 0;
+        while (!heap.isEmpty()) sum += heap.poll();
+        return sum;
+    }
+
+    @Benchmark
+    public long addPollLongPriorityQueue(Degree degree){
+        LongPriorityQueue heap = new LongPriorityQueue(degree.degree, size);
+        for (int value : values) heap.add(value);
+        long sum = 0;
+        while (!heap.isEmpty()) sum += heap.poll();
+        return sum;
+    }
+
+    @Benchmark
+    public long addPollPriorityQueue(){
+        PriorityQueue<Integer> queue = new PriorityQueue<>(size);
+        for (Integer value : boxed) queue.add(value);
+        long sum = 0;
+        while (!queue.isEmpty()) sum += queue.poll();
+        return sum;
+    }
+
+    @Benchmark
+    public long addPollPQueue(){
+        PQueue<Integer> queue = new PQueue<>(size);
+        for (Integer value : boxed) queue.add(value);
+        long sum = 0;
+        while (!queue.isEmpty()) sum += queue.poll();
+        return sum;
+    }
+
+    @Benchmark
+    public long holdDaryHeap(DaryHeapFilled filled){
+        DaryHeap<Integer> heap = filled.heap;
+        long sum = 0;
+        for (int step : steps) {
+            int min = heap.poll();
+            heap.add(min + step);
+            sum += min;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long holdLongPriorityQueue(LongPriorityQueueFilled filled){
+        LongPriorityQueue queue = filled.queue;
+        long sum = 0;
+        for (int step : steps) {
+            long min = queue.poll();
+            int priority = LongPriorityQueue.priorityOf(min);
+            queue.add(priority + step, LongPriorityQueue.payloadOf(min));
+            sum += priority;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long holdPriorityQueue(PriorityQueueFilled filled){
+        PriorityQueue<Integer> queue = filled.queue;
+        long sum = 0;
+        for (int step : steps) {
+            int min = queue.poll();
+            queue.add(min + step);
+            sum += min;
+        }
+        return sum;
+    }
+}
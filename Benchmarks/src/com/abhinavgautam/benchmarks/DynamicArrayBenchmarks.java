@@ -0,0 +1,160 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.DynamicArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+
+// add/get/removeAt/iterate for the dynamic array, side by side with java.util.ArrayList
+public class DynamicArrayBenchmarks extends KeyedBenchmark {
+
+    // removeAt copies the array, so the number of removals of a pass is capped to keep large sizes tractable
+    private static final long REMOVE_BUDGET = 100_000_000L;
+
+    Integer[] values;
+    int[] indices;
+    int removals;
+
+    @Setup
+    public void generate(){
+        values = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+        indices = distribution.generate(size, size, 7);
+        removals = (int) Math.max(1, Math.min(size, REMOVE_BUDGET / size));
+    }
+
+    @State(Scope.Thread)
+    public static class Filled {
+        DynamicArray<Integer> array;
+        ArrayList<Integer> list;
+
+        @Setup
+        public void fill(DynamicArrayBenchmarks suite){
+            array = dynamicArray(suite.values);
+            list = arrayList(suite.values);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ArrayRefilled {
+        DynamicArray<Integer> array;
+
+        @Setup(Level.Invocation)
+        public void fill(DynamicArrayBenchmarks suite){
+            array = dynamicArray(suite.values);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ListRefilled {
+        ArrayList<Integer> list;
+
+        @Setup(Level.Invocation)
+        public void fill(DynamicArrayBenchmarks suite){
+            list = arrayList(suite.values);
+        }
+    }
+
+    @Benchmark
+    public int addDynamicArray(){
+        DynamicArray<Integer> array = new DynamicArray<>();
+        for (Integer value : values) array.add(value);
+        return array.size();
+    }
+
+    @Benchmark
+    public int addArrayList(){
+        ArrayList<Integer> list = new ArrayList<>();
+        for (Integer value : values) list.add(value);
+        return list.size();
+    }
+
+    @Benchmark
+    public long getDynamicArray(Filled filled){
+        long sum = 0;
+        for (int index : indices) sum += filled.array.get(index);
+        return sum;
+    }
+
+    @Benchmark
+    public long getArrayList(Filled filled){
+        long sum = 0;
+        for (int index : indices) sum += filled.list.get(index);
+        return sum;
+    }
+
+    // Removal positions come from the distribution, folded into the shrinking length
+    @Benchmark
+    public long removeAtDynamicArray(ArrayRefilled refilled){
+        DynamicArray<Integer> array = refilled.array;
+        long sum = 0;
+        for (int i = 0; i < removals; i++) sum += array.removeAt(indices[i] % array.size());
+        return sum;
+    }
+
+    @Benchmark
+    public long removeAtArrayList(ListRefilled refilled){
+        ArrayList<Integer> list = refilled.list;
+        long sum = 0;
+        for (int i = 0; i < removals; i++) sum += list.remove(indices[i] % list.size());
+        return sum;
+    }
+
+    // Empties the array from the back, the sequence that used to copy the whole array on every removal
+    @Benchmark
+    public long removeLastDynamicArray(ArrayRefilled refilled){
+        DynamicArray<Integer> array = refilled.array;
+        long sum = 0;
+        while (!array.isEmpty()) sum += array.removeAt(array.size() - 1);
+        return sum;
+    }
+
+    @Benchmark
+    public long removeLastArrayList(ListRefilled refilled){
+        ArrayList<Integer> list = refilled.list;
+        long sum = 0;
+        while (!list.isEmpty()) sum += list.remove(list.size() - 1);
+        return sum;
+    }
+
+    @Benchmark
+    public int removeIfDynamicArray(ArrayRefilled refilled){
+        refilled.array.removeIf(value -> (value & 1) == 0);
+        return refilled.array.size();
+    }
+
+    @Benchmark
+    public int removeIfArrayList(ListRefilled refilled){
+        refilled.list.removeIf(value -> (value & 1) == 0);
+        return refilled.list.size();
+    }
+
+    @Benchmark
+    public long iterateDynamicArray(Filled filled){
+        long sum = 0;
+        for (Integer value : filled.array) sum += value;
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateArrayList(Filled filled){
+        long sum = 0;
+        for (Integer value : filled.list) sum += value;
+        return sum;
+    }
+
+    static DynamicArray<Integer> dynamicArray(Integer[] values){
+        DynamicArray<Integer> array = new DynamicArray<>();
+        for (Integer value : values) array.add(value);
+        return array;
+    }
+
+    private static ArrayList<Integer> arrayList(Integer[] values){
+        ArrayList<Integer> list = new ArrayList<>();
+        for (Integer value : values) list.add(value);
+        return list;
+    }
+}
@@ -0,0 +1,36 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.FenwickTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+// prefixSum/add for the Fenwick tree. There is no java.util counterpart so these are measured on their own.
+public class FenwickTreeBenchmarks extends KeyedBenchmark {
+
+    int[] indices;
+    FenwickTree filled;
+
+    @Setup
+    public void generate(){
+        // The tree is one based, shift the generated indices from [0,size) to [1,size]
+        indices = distribution.generate(size, size, 42);
+        for (int i = 0; i < size; i++) indices[i]++;
+        long[] values = new long[size + 1];
+        for (int i = 1; i <= size; i++) values[i] = i;
+        filled = new FenwickTree(values);
+    }
+
+    @Benchmark
+    public long add(){
+        FenwickTree tree = new FenwickTree(size);
+        for (int i = 0; i < size; i++) tree.add(indices[i], i);
+        return tree.prefixSum(size);
+    }
+
+    @Benchmark
+    public long prefixSum(){
+        long sum = 0;
+        for (int index : indices) sum += filled.prefixSum(index);
+        return sum;
+    }
+}
@@ -0,0 +1,167 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.HashTableQuadraticProbing;
+import com.abhinavgautam.HashTableSeparateChaining;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+
+// insert/get/remove/iterate for both hash tables, side by side with java.util.HashMap
+public class HashTableBenchmarks extends KeyedBenchmark {
+
+    Integer[] keys;
+
+    @Setup
+    public void generate(){
+        keys = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+    }
+
+    // Filled once for the passes that only read
+    @State(Scope.Thread)
+    public static class Filled {
+        HashTableQuadraticProbing<Integer,Integer> quadraticProbing;
+        HashTableSeparateChaining<Integer,Integer> separateChaining;
+        HashMap<Integer,Integer> hashMap;
+
+        @Setup
+        public void fill(HashTableBenchmarks suite){
+            quadraticProbing = quadraticProbing(suite.keys);
+            separateChaining = separateChaining(suite.keys);
+            hashMap = hashMap(suite.keys);
+        }
+    }
+
+    // Filled again before every pass that empties the table, one state per table so a pass only rebuilds its own
+    @State(Scope.Thread)
+    public static class QuadraticProbingRefilled {
+        HashTableQuadraticProbing<Integer,Integer> table;
+
+        @Setup(Level.Invocation)
+        public void fill(HashTableBenchmarks suite){
+            table = quadraticProbing(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SeparateChainingRefilled {
+        HashTableSeparateChaining<Integer,Integer> table;
+
+        @Setup(Level.Invocation)
+        public void fill(HashTableBenchmarks suite){
+            table = separateChaining(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class HashMapRefilled {
+        HashMap<Integer,Integer> map;
+
+        @Setup(Level.Invocation)
+        public void fill(HashTableBenchmarks suite){
+            map = hashMap(suite.keys);
+        }
+    }
+
+    @Benchmark
+    public int insertQuadraticProbing(){
+        HashTableQuadraticProbing<Integer,Integer> table = new HashTableQuadraticProbing<>();
+        for (Integer key : keys) table.insert(key, key);
+        return table.size();
+    }
+
+    @Benchmark
+    public int insertSeparateChaining(){
+        HashTableSeparateChaining<Integer,Integer> table = new HashTableSeparateChaining<>();
+        for (Integer key : keys) table.insert(key, key);
+        return table.size();
+    }
+
+    @Benchmark
+    public int insertHashMap(){
+        HashMap<Integer,Integer> map = new HashMap<>();
+        for (Integer key : keys) map.put(key, key);
+        return map.size();
+    }
+
+    @Benchmark
+    public long getQuadraticProbing(Filled filled){
+        long sum = 0;
+        for (Integer key : keys) sum += filled.quadraticProbing.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long getSeparateChaining(Filled filled){
+        long sum = 0;
+        for (Integer key : keys) sum += filled.separateChaining.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long getHashMap(Filled filled){
+        long sum = 0;
+        for (Integer key : keys) sum += filled.hashMap.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public int removeQuadraticProbing(QuadraticProbingRefilled refilled){
+        for (Integer key : keys) refilled.table.remove(key);
+        return refilled.table.size();
+    }
+
+    @Benchmark
+    public int removeSeparateChaining(SeparateChainingRefilled refilled){
+        for (Integer key : keys) refilled.table.remove(key);
+        return refilled.table.size();
+    }
+
+    @Benchmark
+    public int removeHashMap(HashMapRefilled refilled){
+        for (Integer key : keys) refilled.map.remove(key);
+        return refilled.map.size();
+    }
+
+    @Benchmark
+    public long iterateQuadraticProbing(Filled filled){
+        long sum = 0;
+        for (Integer key : filled.quadraticProbing) sum += key;
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateSeparateChaining(Filled filled){
+        long sum = 0;
+        for (Integer key : filled.separateChaining) sum += key;
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateHashMap(Filled filled){
+        long sum = 0;
+        for (Integer key : filled.hashMap.keySet()) sum += key;
+        return sum;
+    }
+
+    static HashTableQuadraticProbing<Integer,Integer> quadraticProbing(Integer[] keys){
+        HashTableQuadraticProbing<Integer,Integer> table = new HashTableQuadraticProbing<>();
+        for (Integer key : keys) table.insert(key, key);
+        return table;
+    }
+
+    static HashTableSeparateChaining<Integer,Integer> separateChaining(Integer[] keys){
+        HashTableSeparateChaining<Integer,Integer> table = new HashTableSeparateChaining<>();
+        for (Integer key : keys) table.insert(key, key);
+        return table;
+    }
+
+    static HashMap<Integer,Integer> hashMap(Integer[] keys){
+        HashMap<Integer,Integer> map = new HashMap<>();
+        for (Integer key : keys) map.put(key, key);
+        return map;
+    }
+}
@@ -0,0 +1,92 @@
+package com.abhinavgautam.benchmarks;
+
+import java.util.Random;
+
+// Key streams used by the benchmarks. Every generator is seeded so that our implementation and the
+// java.util reference always see exactly the same keys.
+public enum KeyDistribution {
+    // Keys 0, 1, 2, ... in order. Best case for trees and prefix structures, worst case for weak hash functions.
+    SEQUENTIAL {
+        @Override
+        public int[] generate(int count, int bound, long seed) {
+            int[] keys = new int[count];
+            for (int i = 0; i < count; i++) keys[i] = i % bound;
+            return keys;
+        }
+    },
+    // Keys 0, STRIDE, 2*STRIDE, ... wrapping around at bound. Regular patterns like this defeat weak hash functions
+    // whose low bits are used directly as an index.
+    STRIDED {
+        private static final int STRIDE = 1024;
+
+        @Override
+        public int[] generate(int count, int bound, long seed) {
+            int[] keys = new int[count];
+            for (int i = 0; i < count; i++) keys[i] = (int) ((long) i * STRIDE % bound);
+            return keys;
+        }
+    },
+    // Keys drawn uniformly at random from [0,bound)
+    UNIFORM {
+        @Override
+        public int[] generate(int count, int bound, long seed) {
+            Random random = new Random(seed);
+            int[] keys = new int[count];
+            for (int i = 0; i < count; i++) keys[i] = random.nextInt(bound);
+            return keys;
+        }
+    },
+    // Skewed keys: the i-th most popular key is drawn with probability proportional to 1/i^THETA.
+    // The ranks are scrambled so the hot keys are spread over [0,bound) rather than clustered at 0.
+    ZIPFIAN {
+        private static final double THETA = 0.99;
+
+        @Override
+        public int[] generate(int count, int bound, long seed) {
+            // Sampling formulas from Gray et al., "Quickly Generating Billion-Record Synthetic Databases"
+            int items = Math.max(2, Math.min(count, bound));
+            double zetan = zeta(items), zeta2 = zeta(2);
+            double alpha = 1.0 / (1.0 - THETA);
+            double eta = (1 - Math.pow(2.0 / items, 1 - THETA)) / (1 - zeta2 / zetan);
+
+            Random random = new Random(seed);
+            int[] keys = new int[count];
+            for (int i = 0; i < count; i++) {
+                double u = random.nextDouble();
+                double uz = u * zetan;
+                long rank;
+                if (uz < 1.0) rank = 0;
+                else if (uz < 1.0 + Math.pow(0.5, THETA)) rank = 1;
+                else rank = (long) (items * Math.pow(eta * u - eta + 1, alpha));
+                keys[i] = (int) ((scramble(rank) & Long.MAX_VALUE) % bound);
+            }
+            return keys;
+        }
+
+        private double zeta(int n) {
+            double sum = 0;
+            for (int i = 1; i <= n; i++) sum += 1.0 / Math.pow(i, THETA);
+            return sum;
+        }
+
+        // 64 bit finalizer from MurmurHash3, a bijection so distinct ranks stay distinct
+        private long scramble(long x) {
+            x ^= x >>> 33;
+            x *= 0xff51afd7ed558ccdL;
+            x ^= x >>> 33;
+            x *= 0xc4ceb9fe1a85ec53L;
+            x ^= x >>> 33;
+            return x;
+        }
+    };
+
+    // Generates count keys in the domain [0,bound)
+    public abstract int[] generate(int count, int bound, long seed);
+
+    // Boxes the keys up front so that the benchmarks measure the data structure and not Integer.valueOf
+    public static Integer[] box(int[] keys) {
+        Integer[] boxed = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) boxed[i] = keys[i];
+        return boxed;
+    }
+}
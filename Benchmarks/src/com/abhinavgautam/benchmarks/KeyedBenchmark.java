@@ -0,0 +1,32 @@
+package com.abhinavgautam.benchmarks;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Settings and parameters shared by the suites. Unless a suite says otherwise a benchmark method makes one pass
+// over size keys, so the score is the time of the whole pass: divide it by size for the time of one operation.
+// The larger sizes need a larger heap, e.g. -jvmArgs -Xmx8g, or pick the sizes with -p size=1000,100000.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public abstract class KeyedBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    // Every key distribution unless restricted with -p distribution=UNIFORM
+    @Param
+    public KeyDistribution distribution;
+}
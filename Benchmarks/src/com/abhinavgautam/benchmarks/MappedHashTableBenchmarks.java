@@ -0,0 +1,83 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.HashTableQuadraticProbing;
+import com.abhinavgautam.LongLongHashTable;
+import com.abhinavgautam.MappedLongLongHashTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Warm start of the memory mapped table against rebuilding an on-heap table from scratch, and lookup
+// throughput against the on-heap primitive table. The file lives in the system temp directory. A startup
+// score is the time of one start, not of a pass over the keys.
+public class MappedHashTableBenchmarks extends KeyedBenchmark {
+
+    int[] keys;
+    Path file;
+
+    @Setup
+    public void create() throws IOException {
+        keys = distribution.generate(size, Integer.MAX_VALUE, 42);
+        file = Files.createTempFile("mapped-hashtable", ".bin");
+        try (MappedLongLongHashTable table = new MappedLongLongHashTable(file)) {
+            for (int key : keys) table.insert(key, key);
+        }
+    }
+
+    @TearDown
+    public void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @State(Scope.Thread)
+    public static class Opened {
+        MappedLongLongHashTable mapped;
+        LongLongHashTable onHeap;
+
+        @Setup
+        public void open(MappedHashTableBenchmarks suite) throws IOException {
+            mapped = new MappedLongLongHashTable(suite.file);
+            onHeap = new LongLongHashTable();
+            for (int key : suite.keys) onHeap.insert(key, key);
+        }
+
+        @TearDown
+        public void close() throws IOException {
+            mapped.close();
+        }
+    }
+
+    @Benchmark
+    public long startupMapped() throws IOException {
+        try (MappedLongLongHashTable table = new MappedLongLongHashTable(file)) {
+            return table.size();
+        }
+    }
+
+    @Benchmark
+    public int startupQuadraticProbingRebuild(){
+        HashTableQuadraticProbing<Long,Long> table = new HashTableQuadraticProbing<>();
+        for (int key : keys) table.insert((long) key, (long) key);
+        return table.size();
+    }
+
+    @Benchmark
+    public long getMapped(Opened opened){
+        long sum = 0;
+        for (int key : keys) sum += opened.mapped.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long getLongLongHashTable(Opened opened){
+        long sum = 0;
+        for (int key : keys) sum += opened.onHeap.get(key);
+        return sum;
+    }
+}
@@ -0,0 +1,206 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.IndexedPQueue;
+import com.abhinavgautam.PQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// add/poll for the indexed binary heap, side by side with java.util.PriorityQueue.
+// remove(elem) is left out on purpose: PriorityQueue.remove(Object) is a linear scan.
+// The bulk rows compare PQueue's batch operations with the element at a time loops they replace; drainTo
+// moves half the heap and topK reads TOP_K elements per pass. decreaseKey compares IndexedPQueue, which finds
+// an element through its integer key, with PQueue removing the old value and adding the new one, the only way
+// to change a priority there.
+public class PQueueBenchmarks extends KeyedBenchmark {
+
+    private static final int TOP_K = 100;
+
+    Integer[] keys;
+    int[] decreased;
+    Integer[] oldValues, newValues;
+    List<Integer> all, heapPart, batchPart;
+
+    @Setup
+    public void generate(){
+        keys = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+        decreased = distribution.generate(size, size, 7);
+        oldValues = new Integer[size];
+        newValues = new Integer[size];
+        lowerValues(keys, decreased, oldValues, newValues);
+        all = Arrays.asList(keys);
+        // A batch twice the size of the heap it goes into, large enough for addAll to rebuild the heap
+        heapPart = all.subList(0, size / 3);
+        batchPart = all.subList(size / 3, size);
+    }
+
+    @State(Scope.Thread)
+    public static class Filled {
+        PQueue<Integer> queue;
+
+        @Setup
+        public void fill(PQueueBenchmarks suite){
+            queue = new PQueue<>(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PQueueRefilled {
+        PQueue<Integer> queue;
+
+        @Setup(Level.Invocation)
+        public void fill(PQueueBenchmarks suite){
+            queue = new PQueue<>(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PriorityQueueRefilled {
+        PriorityQueue<Integer> queue;
+
+        @Setup(Level.Invocation)
+        public void fill(PQueueBenchmarks suite){
+            queue = new PriorityQueue<>(suite.keys.length);
+            for (Integer key : suite.keys) queue.add(key);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class IndexedRefilled {
+        IndexedPQueue<Integer> queue;
+
+        // Key i holds the i-th value
+        @Setup(Level.Invocation)
+        public void fill(PQueueBenchmarks suite){
+            queue = new IndexedPQueue<>(suite.keys.length);
+            for (int i = 0; i < suite.keys.length; i++) queue.insert(i, suite.keys[i]);
+        }
+    }
+
+    // The third of the keys that the addAll batch goes into
+    @State(Scope.Thread)
+    public static class HeapPartRefilled {
+        PQueue<Integer> queue;
+
+        @Setup(Level.Invocation)
+        public void fill(PQueueBenchmarks suite){
+            queue = new PQueue<>(suite.heapPart);
+        }
+    }
+
+    @Benchmark
+    public int addPQueue(){
+        PQueue<Integer> queue = new PQueue<>(size);
+        for (Integer key : keys) queue.add(key);
+        return queue.size();
+    }
+
+    @Benchmark
+    public int addPriorityQueue(){
+        PriorityQueue<Integer> queue = new PriorityQueue<>(size);
+        for (Integer key : keys) queue.add(key);
+        return queue.size();
+    }
+
+    @Benchmark
+    public long pollPQueue(PQueueRefilled refilled){
+        long sum = 0;
+        while (!refilled.queue.isEmpty()) sum += refilled.queue.poll();
+        return sum;
+    }
+
+    @Benchmark
+    public long pollPriorityQueue(PriorityQueueRefilled refilled){
+        long sum = 0;
+        while (!refilled.queue.isEmpty()) sum += refilled.queue.poll();
+        return sum;
+    }
+
+    @Benchmark
+    public long pollIndexedPQueue(IndexedRefilled refilled){
+        long sum = 0;
+        while (!refilled.queue.isEmpty()) sum += refilled.queue.pollMinValue();
+        return sum;
+    }
+
+    @Benchmark
+    public int heapifyPQueue(){
+        return new PQueue<>(all).size();
+    }
+
+    @Benchmark
+    public int heapifyAddLoop(){
+        PQueue<Integer> queue = new PQueue<>(size);
+        for (Integer key : all) queue.add(key);
+        return queue.size();
+    }
+
+    @Benchmark
+    public int addAllPQueue(HeapPartRefilled refilled){
+        refilled.queue.addAll(batchPart);
+        return refilled.queue.size();
+    }
+
+    @Benchmark
+    public int addAllAddLoop(HeapPartRefilled refilled){
+        for (Integer key : batchPart) refilled.queue.add(key);
+        return refilled.queue.size();
+    }
+
+    @Benchmark
+    public int drainToPQueue(PQueueRefilled refilled){
+        List<Integer> drained = new ArrayList<>(size / 2);
+        return refilled.queue.drainTo(drained, size / 2);
+    }
+
+    @Benchmark
+    public int drainToPollLoop(PQueueRefilled refilled){
+        List<Integer> drained = new ArrayList<>(size / 2);
+        for (int i = 0; i < size / 2; i++) drained.add(refilled.queue.poll());
+        return drained.size();
+    }
+
+    @Benchmark
+    public long topKPQueue(Filled filled){
+        long sum = 0;
+        for (Iterator<Integer> it = filled.queue.topK(TOP_K); it.hasNext(); ) sum += it.next();
+        return sum;
+    }
+
+    @Benchmark
+    public long decreaseKeyIndexedPQueue(IndexedRefilled refilled){
+        long changed = 0;
+        for (int i = 0; i < size; i++) if (refilled.queue.decreaseKey(decreased[i], newValues[i])) changed++;
+        return changed;
+    }
+
+    @Benchmark
+    public long decreaseKeyPQueue(PQueueRefilled refilled){
+        long changed = 0;
+        for (int i = 0; i < size; i++) {
+            if (refilled.queue.remove(oldValues[i])) changed++;
+            refilled.queue.add(newValues[i]);
+        }
+        return changed;
+    }
+
+    // The value of element decreased[i] before and after the i-th decrease, every decrease lowers the current value
+    private static void lowerValues(Integer[] keys, int[] decreased, Integer[] oldValues, Integer[] newValues){
+        int[] current = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) current[i] = keys[i];
+        for (int i = 0; i < decreased.length; i++) {
+            int key = decreased[i];
+            oldValues[i] = current[key];
+            current[key] -= 1 + (current[key] & 1023);
+            newValues[i] = current[key];
+        }
+    }
+}
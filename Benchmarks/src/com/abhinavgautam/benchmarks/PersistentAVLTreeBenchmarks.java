@@ -0,0 +1,147 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.AVLTree;
+import com.abhinavgautam.PersistentAVLTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.TreeMap;
+
+// The persistent AVL tree against java.util.TreeMap and the mutable AVLTree. insert shows what path copying
+// costs over changing nodes in place, and what the Builder wins back for bulk loads. snapshot inserts every key
+// and takes SNAPSHOTS snapshots on the way, once with snapshot() and once by copying an AVLTree into a new one,
+// which is how a consistent copy of a mutable tree is made today.
+public class PersistentAVLTreeBenchmarks extends KeyedBenchmark {
+
+    private static final int SNAPSHOTS = 10;
+
+    Integer[] keys;
+    int interval;
+
+    @Setup
+    public void generate(){
+        keys = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+        interval = Math.max(1, size / SNAPSHOTS);
+    }
+
+    @State(Scope.Thread)
+    public static class Filled {
+        PersistentAVLTree<Integer> tree;
+        TreeMap<Integer,Boolean> treeMap;
+
+        @Setup
+        public void fill(PersistentAVLTreeBenchmarks suite){
+            tree = persistent(suite.keys);
+            treeMap = AVLTreeBenchmarks.treeMap(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PersistentRefilled {
+        PersistentAVLTree<Integer> tree;
+
+        @Setup(Level.Invocation)
+        public void fill(PersistentAVLTreeBenchmarks suite){
+            tree = persistent(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TreeMapRefilled {
+        TreeMap<Integer,Boolean> map;
+
+        @Setup(Level.Invocation)
+        public void fill(PersistentAVLTreeBenchmarks suite){
+            map = AVLTreeBenchmarks.treeMap(suite.keys);
+        }
+    }
+
+    @Benchmark
+    public int insertPersistentAVLTree(){
+        PersistentAVLTree<Integer> tree = new PersistentAVLTree<>();
+        for (Integer key : keys) tree.insert(key);
+        return tree.size();
+    }
+
+    @Benchmark
+    public int insertBuilder(){
+        PersistentAVLTree.Builder<Integer> builder = new PersistentAVLTree.Builder<>();
+        for (Integer key : keys) builder.insert(key);
+        return builder.build().size();
+    }
+
+    @Benchmark
+    public int insertAVLTree(){
+        AVLTree<Integer> tree = new AVLTree<>();
+        for (Integer key : keys) tree.insert(key);
+        return tree.size();
+    }
+
+    @Benchmark
+    public int insertTreeMap(){
+        TreeMap<Integer,Boolean> map = new TreeMap<>();
+        for (Integer key : keys) map.put(key, Boolean.TRUE);
+        return map.size();
+    }
+
+    @Benchmark
+    public int removePersistentAVLTree(PersistentRefilled refilled){
+        for (Integer key : keys) refilled.tree.remove(key);
+        return refilled.tree.size();
+    }
+
+    @Benchmark
+    public int removeTreeMap(TreeMapRefilled refilled){
+        for (Integer key : keys) refilled.map.remove(key);
+        return refilled.map.size();
+    }
+
+    @Benchmark
+    public long containsPersistentAVLTree(Filled filled){
+        long found = 0;
+        for (Integer key : keys) if (filled.tree.contains(key)) found++;
+        return found;
+    }
+
+    @Benchmark
+    public long containsTreeMap(Filled filled){
+        long found = 0;
+        for (Integer key : keys) if (filled.treeMap.containsKey(key)) found++;
+        return found;
+    }
+
+    @Benchmark
+    public long snapshotPersistentAVLTree(){
+        PersistentAVLTree<Integer> tree = new PersistentAVLTree<>();
+        long sum = 0;
+        for (int i = 0; i < keys.length; i++) {
+            tree.insert(keys[i]);
+            if (i % interval == 0) sum += tree.snapshot().size();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long snapshotAVLTreeCopy(){
+        AVLTree<Integer> tree = new AVLTree<>();
+        long sum = 0;
+        for (int i = 0; i < keys.length; i++) {
+            tree.insert(keys[i]);
+            if (i % interval == 0) {
+                AVLTree<Integer> copy = new AVLTree<>();
+                for (Integer key : tree) copy.insert(key);
+                sum += copy.size();
+            }
+        }
+        return sum;
+    }
+
+    private static PersistentAVLTree<Integer> persistent(Integer[] keys){
+        PersistentAVLTree.Builder<Integer> builder = new PersistentAVLTree.Builder<>();
+        for (Integer key : keys) builder.insert(key);
+        return builder.build();
+    }
+}
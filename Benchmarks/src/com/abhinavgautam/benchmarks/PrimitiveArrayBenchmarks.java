@@ -0,0 +1,105 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.DynamicArray;
+import com.abhinavgautam.IntArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.PrimitiveIterator;
+
+// The primitive int specialisation of the dynamic array against DynamicArray<Integer>
+public class PrimitiveArrayBenchmarks extends KeyedBenchmark {
+
+    // indexOf scans the whole array for a missing value, a pass makes a few scans at every size
+    private static final int SCANS = 8;
+
+    int[] values, indices;
+    Integer[] boxed;
+
+    @Setup
+    public void generate(){
+        values = distribution.generate(size, Integer.MAX_VALUE, 42);
+        boxed = KeyDistribution.box(values);
+        indices = distribution.generate(size, size, 7);
+    }
+
+    @State(Scope.Thread)
+    public static class Filled {
+        IntArray intArray;
+        DynamicArray<Integer> dynamicArray;
+
+        @Setup
+        public void fill(PrimitiveArrayBenchmarks suite){
+            intArray = new IntArray();
+            for (int value : suite.values) intArray.add(value);
+            dynamicArray = DynamicArrayBenchmarks.dynamicArray(suite.boxed);
+        }
+    }
+
+    @Benchmark
+    public int addIntArray(){
+        IntArray array = new IntArray();
+        for (int value : values) array.add(value);
+        return array.size();
+    }
+
+    @Benchmark
+    public int addDynamicArray(){
+        DynamicArray<Integer> array = new DynamicArray<>();
+        for (Integer value : boxed) array.add(value);
+        return array.size();
+    }
+
+    @Benchmark
+    public int addAllIntArray(){
+        IntArray array = new IntArray();
+        array.addAll(values);
+        return array.size();
+    }
+
+    @Benchmark
+    public long getIntArray(Filled filled){
+        long sum = 0;
+        for (int index : indices) sum += filled.intArray.get(index);
+        return sum;
+    }
+
+    @Benchmark
+    public long getDynamicArray(Filled filled){
+        long sum = 0;
+        for (int index : indices) sum += filled.dynamicArray.get(index);
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateIntArray(Filled filled){
+        long sum = 0;
+        for (PrimitiveIterator.OfInt it = filled.intArray.iterator(); it.hasNext(); ) sum += it.nextInt();
+        return sum;
+    }
+
+    @Benchmark
+    public long iterateDynamicArray(Filled filled){
+        long sum = 0;
+        for (Integer value : filled.dynamicArray) sum += value;
+        return sum;
+    }
+
+    // -1 is never generated, so every scan runs to the end of the array
+    @Benchmark
+    public long indexOfIntArray(Filled filled){
+        long found = 0;
+        for (int i = 0; i < SCANS; i++) found += filled.intArray.indexOf(-1);
+        return found;
+    }
+
+    @Benchmark
+    public long indexOfDynamicArray(Filled filled){
+        long found = 0;
+        Integer missing = -1;
+        for (int i = 0; i < SCANS; i++) found += filled.dynamicArray.indexOf(missing);
+        return found;
+    }
+}
@@ -0,0 +1,120 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.IntIntHashTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+
+// insert/get/remove/iterate for the int -> int hash-table, side by side with a boxed java.util.HashMap.
+// The keys are not pre-boxed here since avoiding the boxing is the point of the primitive table.
+public class PrimitiveHashTableBenchmarks extends KeyedBenchmark {
+
+    int[] keys;
+
+    @Setup
+    public void generate(){
+        keys = distribution.generate(size, Integer.MAX_VALUE, 42);
+    }
+
+    @State(Scope.Thread)
+    public static class Filled {
+        IntIntHashTable table;
+        HashMap<Integer,Integer> hashMap;
+
+        @Setup
+        public void fill(PrimitiveHashTableBenchmarks suite){
+            table = intIntHashTable(suite.keys);
+            hashMap = hashMap(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TableRefilled {
+        IntIntHashTable table;
+
+        @Setup(Level.Invocation)
+        public void fill(PrimitiveHashTableBenchmarks suite){
+            table = intIntHashTable(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class HashMapRefilled {
+        HashMap<Integer,Integer> map;
+
+        @Setup(Level.Invocation)
+        public void fill(PrimitiveHashTableBenchmarks suite){
+            map = hashMap(suite.keys);
+        }
+    }
+
+    @Benchmark
+    public int insertIntIntHashTable(){
+        IntIntHashTable table = new IntIntHashTable();
+        for (int key : keys) table.insert(key, key);
+        return table.size();
+    }
+
+    @Benchmark
+    public int insertHashMap(){
+        HashMap<Integer,Integer> map = new HashMap<>();
+        for (int key : keys) map.put(key, key);
+        return map.size();
+    }
+
+    @Benchmark
+    public long getIntIntHashTable(Filled filled){
+        long sum = 0;
+        for (int key : keys) sum += filled.table.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long getHashMap(Filled filled){
+        long sum = 0;
+        for (int key : keys) sum += filled.hashMap.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public int removeIntIntHashTable(TableRefilled refilled){
+        for (int key : keys) refilled.table.remove(key);
+        return refilled.table.size();
+    }
+
+    @Benchmark
+    public int removeHashMap(HashMapRefilled refilled){
+        for (int key : keys) refilled.map.remove(key);
+        return refilled.map.size();
+    }
+
+    @Benchmark
+    public long iterateIntIntHashTable(Filled filled){
+        long[] sum = new long[1];
+        filled.table.forEach((key, value) -> sum[0] += value);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long iterateHashMap(Filled filled){
+        long sum = 0;
+        for (Integer value : filled.hashMap.values()) sum += value;
+        return sum;
+    }
+
+    private static IntIntHashTable intIntHashTable(int[] keys){
+        IntIntHashTable table = new IntIntHashTable();
+        for (int key : keys) table.insert(key, key);
+        return table;
+    }
+
+    private static HashMap<Integer,Integer> hashMap(int[] keys){
+        HashMap<Integer,Integer> map = new HashMap<>();
+        for (int key : keys) map.put(key, key);
+        return map;
+    }
+}
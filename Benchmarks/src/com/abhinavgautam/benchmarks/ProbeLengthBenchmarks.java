@@ -0,0 +1,49 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.HashTableQuadraticProbing;
+import com.abhinavgautam.HashTableSeparateChaining;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+// Lookup throughput of the hash tables with the Fibonacci spread hash and power of two capacities, over the
+// distinct keys of each distribution. The strided keys are the case a raw hashCode() with a power of two mask
+// handles worst. ProbeLengths reports the probe lengths of the old and the new index computation.
+public class ProbeLengthBenchmarks extends KeyedBenchmark {
+
+    Integer[] keys;
+    HashTableQuadraticProbing<Integer,Integer> quadraticProbing;
+    HashTableSeparateChaining<Integer,Integer> separateChaining;
+    HashMap<Integer,Integer> hashMap;
+
+    @Setup
+    public void fill(){
+        keys = KeyDistribution.box(Arrays.stream(distribution.generate(size, Integer.MAX_VALUE, 42)).distinct().toArray());
+        quadraticProbing = HashTableBenchmarks.quadraticProbing(keys);
+        separateChaining = HashTableBenchmarks.separateChaining(keys);
+        hashMap = HashTableBenchmarks.hashMap(keys);
+    }
+
+    @Benchmark
+    public long getQuadraticProbing(){
+        long sum = 0;
+        for (Integer key : keys) sum += quadraticProbing.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long getSeparateChaining(){
+        long sum = 0;
+        for (Integer key : keys) sum += separateChaining.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long getHashMap(){
+        long sum = 0;
+        for (Integer key : keys) sum += hashMap.get(key);
+        return sum;
+    }
+}
@@ -0,0 +1,93 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.RobinHoodHashTable;
+
+import java.util.Arrays;
+
+// Probe lengths are not timings, so they are printed by this program instead of measured with JMH:
+// java -cp Benchmarks/target/benchmarks.jar com.abhinavgautam.benchmarks.ProbeLengths [size,size,...]
+//
+// The old index computation of the hash tables (raw hashCode() reduced with %, chaining capacities of 3*2^k) is
+// compared with the current one (Fibonacci spread hash, power of two capacity and a mask) by replaying the keys
+// through a model of each index function, since that is the only thing that differs between the two schemes.
+// The last row is the probe length of the Robin Hood table after every key was replaced by another one.
+public class ProbeLengths {
+
+    private static final double QUADRATIC_LOAD_FACTOR = 0.45, CHAINING_LOAD_FACTOR = 0.75;
+
+    public static void main(String[] args) {
+        int[] sizes = {1_000, 10_000, 100_000, 1_000_000};
+        if (args.length > 0) sizes = Arrays.stream(args[0].split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+
+        System.out.println(String.format("%-20s %10s %-12s %-24s %s", "table", "size", "keys", "index", "probes"));
+        for (int size : sizes) {
+            for (KeyDistribution distribution : KeyDistribution.values()) {
+                String dist = distribution.name().toLowerCase();
+                int[] keys = Arrays.stream(distribution.generate(size, Integer.MAX_VALUE, 42)).distinct().toArray();
+
+                // Capacities as the tables would have grown them to hold the keys
+                int quadraticCapacity = 8;
+                while (keys.length >= quadraticCapacity * QUADRATIC_LOAD_FACTOR) quadraticCapacity *= 2;
+                int oldChainingCapacity = 3, chainingCapacity = 4;
+                while (keys.length > oldChainingCapacity * CHAINING_LOAD_FACTOR) oldChainingCapacity *= 2;
+                while (keys.length > chainingCapacity * CHAINING_LOAD_FACTOR) chainingCapacity *= 2;
+
+                print("quadratic", size, dist, "hashCode % capacity", quadratic(keys, quadraticCapacity, false));
+                print("quadratic", size, dist, "spread & mask", quadratic(keys, quadraticCapacity, true));
+                print("chaining", size, dist, "hashCode % 3*2^k", chaining(keys, oldChainingCapacity, false));
+                print("chaining", size, dist, "spread & mask", chaining(keys, chainingCapacity, true));
+                print("robinhood churned", size, dist, "RobinHoodHashTable", robinHood(distribution, size));
+            }
+        }
+    }
+
+    private static void print(String table, int size, String dist, String index, String probes){
+        System.out.println(String.format("%-20s %10d %-12s %-24s %s", table, size, dist, index, probes));
+    }
+
+    // Same spreader as the hash tables
+    private static int spread(int h){
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Inserts the keys into a quadratic probing table and reports the cells inspected per successful lookup
+    private static String quadratic(int[] keys, int capacity, boolean spread){
+        boolean[] used = new boolean[capacity];
+        long total = 0;
+        int max = 0;
+        for (int key : keys) {
+            int hash = spread ? spread(key) & (capacity - 1) : (key & 0x7FFFFFFF) % capacity;
+            int i = hash, x = 1, probes = 1;
+            while (used[i]) {
+                i = (hash + ((x * x + x) >> 1)) & (capacity - 1);
+                x++;
+                probes++;
+            }
+            used[i] = true;
+            total += probes;
+            max = Math.max(max, probes);
+        }
+        return String.format("avg %.2f max %d probes", (double) total / keys.length, max);
+    }
+
+    // Distributes the keys over the buckets and reports the entries inspected per successful lookup
+    private static String chaining(int[] keys, int capacity, boolean spread){
+        int[] length = new int[capacity];
+        long total = 0;
+        int max = 0;
+        for (int key : keys) {
+            int bucket = spread ? spread(key) & (capacity - 1) : (key & 0x7FFFFFFF) % capacity;
+            int position = ++length[bucket];
+            total += position;
+            max = Math.max(max, position);
+        }
+        return String.format("avg %.2f max %d probes", (double) total / keys.length, max);
+    }
+
+    // Fills the table, then replaces every key with a churn key, the workload RobinHoodBenchmarks times lookups on
+    private static String robinHood(KeyDistribution distribution, int size){
+        RobinHoodHashTable<Integer,Integer> table = RobinHoodBenchmarks.churned(distribution, size);
+        return String.format("avg %.2f max %d probes", table.averageProbeLength(), table.maxProbeLength());
+    }
+}
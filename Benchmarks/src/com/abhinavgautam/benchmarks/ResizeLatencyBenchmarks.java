@@ -0,0 +1,113 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.HashTableQuadraticProbing;
+import com.abhinavgautam.HashTableSeparateChaining;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// Insert latency of the hash tables while they grow from their default capacity, with the resize done in one go
+// against the incremental resize. The insert rows time a whole pass, since the migration isn't free. The
+// latency rows sample single inserts into a table that starts over once it holds size keys: the one-go resize
+// shows up as a p99.9/max that grows with the table, the incremental one should keep them flat. At these sizes
+// a collection pause is far longer than any rehash, run with -prof gc to see how often one hit.
+public class ResizeLatencyBenchmarks extends KeyedBenchmark {
+
+    Integer[] keys;
+
+    @Setup
+    public void generate(){
+        keys = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+    }
+
+    // The tables of the latency rows and the next key to insert
+    @State(Scope.Thread)
+    public static class Growing {
+        HashTableQuadraticProbing<Integer,Integer> quadraticProbing;
+        HashTableSeparateChaining<Integer,Integer> separateChaining;
+        int next;
+
+        Integer nextKey(Integer[] keys, boolean incremental){
+            if (next == keys.length) next = 0;
+            if (next == 0) {
+                quadraticProbing = quadraticProbing(incremental);
+                separateChaining = separateChaining(incremental);
+            }
+            return keys[next++];
+        }
+    }
+
+    @Benchmark
+    public int insertQuadraticProbingIncremental(){
+        HashTableQuadraticProbing<Integer,Integer> table = quadraticProbing(true);
+        for (Integer key : keys) table.insert(key, key);
+        return table.size();
+    }
+
+    @Benchmark
+    public int insertQuadraticProbing(){
+        HashTableQuadraticProbing<Integer,Integer> table = quadraticProbing(false);
+        for (Integer key : keys) table.insert(key, key);
+        return table.size();
+    }
+
+    @Benchmark
+    public int insertSeparateChainingIncremental(){
+        HashTableSeparateChaining<Integer,Integer> table = separateChaining(true);
+        for (Integer key : keys) table.insert(key, key);
+        return table.size();
+    }
+
+    @Benchmark
+    public int insertSeparateChaining(){
+        HashTableSeparateChaining<Integer,Integer> table = separateChaining(false);
+        for (Integer key : keys) table.insert(key, key);
+        return table.size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Integer latencyQuadraticProbingIncremental(Growing growing){
+        Integer key = growing.nextKey(keys, true);
+        return growing.quadraticProbing.insert(key, key);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Integer latencyQuadraticProbing(Growing growing){
+        Integer key = growing.nextKey(keys, false);
+        return growing.quadraticProbing.insert(key, key);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Integer latencySeparateChainingIncremental(Growing growing){
+        Integer key = growing.nextKey(keys, true);
+        return growing.separateChaining.insert(key, key);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Integer latencySeparateChaining(Growing growing){
+        Integer key = growing.nextKey(keys, false);
+        return growing.separateChaining.insert(key, key);
+    }
+
+    private static HashTableQuadraticProbing<Integer,Integer> quadraticProbing(boolean incremental){
+        return new HashTableQuadraticProbing<>(8, 0.45, incremental);
+    }
+
+    private static HashTableSeparateChaining<Integer,Integer> separateChaining(boolean incremental){
+        return new HashTableSeparateChaining<>(4, 0.75, 8, incremental);
+    }
+}
@@ -0,0 +1,105 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.ArrayStack;
+import com.abhinavgautam.IntArrayStack;
+import com.abhinavgautam.IntRingQueue;
+import com.abhinavgautam.Queue;
+import com.abhinavgautam.RingQueue;
+import com.abhinavgautam.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+// The array-backed Stack and Queue against the LinkedList-backed originals, plus the primitive int versions.
+// Every element is pushed and popped, or offered and polled, once per pass.
+public class RingBufferBenchmarks extends KeyedBenchmark {
+
+    // Elements kept in flight by the steady-state workload, roughly a BFS frontier
+    private static final int WINDOW = 1024;
+
+    int[] values;
+    Integer[] boxed;
+
+    @Setup
+    public void generate(){
+        values = distribution.generate(size, Integer.MAX_VALUE, 42);
+        boxed = KeyDistribution.box(values);
+    }
+
+    @Benchmark
+    public long pushPopArrayStack(){
+        ArrayStack<Integer> stack = new ArrayStack<>();
+        for (Integer value : boxed) stack.push(value);
+        long sum = 0;
+        while (!stack.isEmpty()) sum += stack.pop();
+        return sum;
+    }
+
+    @Benchmark
+    public long pushPopStack(){
+        Stack<Integer> stack = new Stack<>();
+        for (Integer value : boxed) stack.push(value);
+        long sum = 0;
+        while (!stack.isEmpty()) sum += stack.pop();
+        return sum;
+    }
+
+    @Benchmark
+    public long pushPopIntArrayStack(){
+        IntArrayStack stack = new IntArrayStack();
+        for (int value : values) stack.push(value);
+        long sum = 0;
+        while (!stack.isEmpty()) sum += stack.pop();
+        return sum;
+    }
+
+    @Benchmark
+    public long offerPollRingQueue(){
+        RingQueue<Integer> queue = new RingQueue<>();
+        for (Integer value : boxed) queue.offer(value);
+        long sum = 0;
+        while (!queue.isEmpty()) sum += queue.poll();
+        return sum;
+    }
+
+    @Benchmark
+    public long offerPollQueue(){
+        Queue<Integer> queue = new Queue<>();
+        for (Integer value : boxed) queue.offer(value);
+        long sum = 0;
+        while (!queue.isEmpty()) sum += queue.poll();
+        return sum;
+    }
+
+    @Benchmark
+    public long offerPollIntRingQueue(){
+        IntRingQueue queue = new IntRingQueue();
+        for (int value : values) queue.offer(value);
+        long sum = 0;
+        while (!queue.isEmpty()) sum += queue.poll();
+        return sum;
+    }
+
+    // A work queue in steady state: the first WINDOW elements are queued, then every poll is followed by
+    // an offer. The fixed capacity ring never grows, the LinkedList allocates a node per offer.
+    @Benchmark
+    public long steadyRingQueue(){
+        RingQueue<Integer> queue = new RingQueue<>(WINDOW, true);
+        long sum = 0;
+        for (Integer value : boxed) {
+            if (queue.isFull()) sum += queue.poll();
+            queue.offer(value);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long steadyQueue(){
+        Queue<Integer> queue = new Queue<>();
+        long sum = 0;
+        for (Integer value : boxed) {
+            if (queue.size() == WINDOW) sum += queue.poll();
+            queue.offer(value);
+        }
+        return sum;
+    }
+}
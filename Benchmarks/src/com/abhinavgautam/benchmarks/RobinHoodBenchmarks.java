@@ -0,0 +1,167 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.HashTableQuadraticProbing;
+import com.abhinavgautam.RobinHoodHashTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Robin Hood hashing against the quadratic probing table it is meant to replace. Besides throughput this
+// samples the latency of single lookups after a remove/insert churn, the workload where quadratic probing
+// accumulates tombstones; JMH reports the percentiles of the churnedGet rows. ProbeLengths prints the probe
+// length statistics of the churned Robin Hood table.
+public class RobinHoodBenchmarks extends KeyedBenchmark {
+
+    Integer[] keys;
+
+    @Setup
+    public void generate(){
+        keys = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+    }
+
+    @State(Scope.Thread)
+    public static class Filled {
+        RobinHoodHashTable<Integer,Integer> robinHood;
+        HashTableQuadraticProbing<Integer,Integer> quadraticProbing;
+
+        @Setup
+        public void fill(RobinHoodBenchmarks suite){
+            robinHood = robinHood(suite.keys);
+            quadraticProbing = HashTableBenchmarks.quadraticProbing(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RobinHoodRefilled {
+        RobinHoodHashTable<Integer,Integer> table;
+
+        @Setup(Level.Invocation)
+        public void fill(RobinHoodBenchmarks suite){
+            table = robinHood(suite.keys);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class QuadraticProbingRefilled {
+        HashTableQuadraticProbing<Integer,Integer> table;
+
+        @Setup(Level.Invocation)
+        public void fill(RobinHoodBenchmarks suite){
+            table = HashTableBenchmarks.quadraticProbing(suite.keys);
+        }
+    }
+
+    // Both tables after every key was replaced with a churn key, looked up in a random order
+    @State(Scope.Thread)
+    public static class Churned {
+        RobinHoodHashTable<Integer,Integer> robinHood;
+        HashTableQuadraticProbing<Integer,Integer> quadraticProbing;
+        Integer[] churn;
+        int[] lookups;
+        int next;
+
+        @Setup
+        public void churn(RobinHoodBenchmarks suite){
+            churn = churnKeys(suite.distribution, suite.size);
+            robinHood = robinHood(suite.keys);
+            quadraticProbing = HashTableBenchmarks.quadraticProbing(suite.keys);
+            for (int i = 0; i < suite.size; i++) {
+                robinHood.remove(suite.keys[i]);
+                robinHood.insert(churn[i], churn[i]);
+                quadraticProbing.remove(suite.keys[i]);
+                quadraticProbing.insert(churn[i], churn[i]);
+            }
+            lookups = new Random(44).ints(suite.size, 0, suite.size).toArray();
+        }
+
+        Integer nextLookup(){
+            Integer key = churn[lookups[next]];
+            if (++next == lookups.length) next = 0;
+            return key;
+        }
+    }
+
+    @Benchmark
+    public int insertRobinHood(){
+        RobinHoodHashTable<Integer,Integer> table = new RobinHoodHashTable<>();
+        for (Integer key : keys) table.insert(key, key);
+        return table.size();
+    }
+
+    @Benchmark
+    public int insertQuadraticProbing(){
+        HashTableQuadraticProbing<Integer,Integer> table = new HashTableQuadraticProbing<>();
+        for (Integer key : keys) table.insert(key, key);
+        return table.size();
+    }
+
+    @Benchmark
+    public long getRobinHood(Filled filled){
+        long sum = 0;
+        for (Integer key : keys) sum += filled.robinHood.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long getQuadraticProbing(Filled filled){
+        long sum = 0;
+        for (Integer key : keys) sum += filled.quadraticProbing.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public int removeRobinHood(RobinHoodRefilled refilled){
+        for (Integer key : keys) refilled.table.remove(key);
+        return refilled.table.size();
+    }
+
+    @Benchmark
+    public int removeQuadraticProbing(QuadraticProbingRefilled refilled){
+        for (Integer key : keys) refilled.table.remove(key);
+        return refilled.table.size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Integer churnedGetRobinHood(Churned churned){
+        return churned.robinHood.get(churned.nextLookup());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Integer churnedGetQuadraticProbing(Churned churned){
+        return churned.quadraticProbing.get(churned.nextLookup());
+    }
+
+    // The Robin Hood table after the churn of the Churned state, for ProbeLengths
+    static RobinHoodHashTable<Integer,Integer> churned(KeyDistribution distribution, int size){
+        Integer[] keys = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+        Integer[] churn = churnKeys(distribution, size);
+        RobinHoodHashTable<Integer,Integer> table = robinHood(keys);
+        for (int i = 0; i < size; i++) {
+            table.remove(keys[i]);
+            table.insert(churn[i], churn[i]);
+        }
+        return table;
+    }
+
+    private static Integer[] churnKeys(KeyDistribution distribution, int size){
+        return KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 43));
+    }
+
+    private static RobinHoodHashTable<Integer,Integer> robinHood(Integer[] keys){
+        RobinHoodHashTable<Integer,Integer> table = new RobinHoodHashTable<>();
+        for (Integer key : keys) table.insert(key, key);
+        return table;
+    }
+}
@@ -0,0 +1,136 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.CircularArray;
+import com.abhinavgautam.GapBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+// The circular buffer and gap buffer variants of the dynamic array on the edits they are built for: adding
+// at the front, against ArrayDeque, and inserting around a slowly moving cursor, against ArrayList.
+public class SequenceBenchmarks extends KeyedBenchmark {
+
+    // ArrayList shifts on every edit, so the number of edits of a pass is capped to keep large sizes tractable
+    private static final long EDIT_BUDGET = 200_000_000L;
+    // The cursor drifts at most this many positions between two edits
+    private static final int CURSOR_DRIFT = 64;
+
+    Integer[] values;
+    int edits;
+    int[] cursors;
+
+    @Setup
+    public void generate(){
+        values = KeyDistribution.box(distribution.generate(size, Integer.MAX_VALUE, 42));
+        edits = (int) Math.max(1, Math.min(size, EDIT_BUDGET / size));
+        cursors = cursorWalk(edits, size);
+    }
+
+    @State(Scope.Thread)
+    public static class CircularRefilled {
+        CircularArray<Integer> array;
+
+        @Setup(Level.Invocation)
+        public void fill(SequenceBenchmarks suite){
+            array = new CircularArray<>();
+            for (Integer value : suite.values) array.add(value);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DequeRefilled {
+        ArrayDeque<Integer> deque;
+
+        @Setup(Level.Invocation)
+        public void fill(SequenceBenchmarks suite){
+            deque = new ArrayDeque<>(Arrays.asList(suite.values));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class GapBufferRefilled {
+        GapBuffer<Integer> buffer;
+
+        @Setup(Level.Invocation)
+        public void fill(SequenceBenchmarks suite){
+            buffer = new GapBuffer<>();
+            for (Integer value : suite.values) buffer.add(value);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ListRefilled {
+        ArrayList<Integer> list;
+
+        @Setup(Level.Invocation)
+        public void fill(SequenceBenchmarks suite){
+            list = new ArrayList<>(Arrays.asList(suite.values));
+        }
+    }
+
+    @Benchmark
+    public int addFirstCircularArray(){
+        CircularArray<Integer> array = new CircularArray<>();
+        for (Integer value : values) array.addFirst(value);
+        return array.size();
+    }
+
+    @Benchmark
+    public int addFirstArrayDeque(){
+        ArrayDeque<Integer> deque = new ArrayDeque<>();
+        for (Integer value : values) deque.addFirst(value);
+        return deque.size();
+    }
+
+    @Benchmark
+    public long removeFirstCircularArray(CircularRefilled refilled){
+        long sum = 0;
+        while (!refilled.array.isEmpty()) sum += refilled.array.removeFirst();
+        return sum;
+    }
+
+    @Benchmark
+    public long removeFirstArrayDeque(DequeRefilled refilled){
+        long sum = 0;
+        while (!refilled.deque.isEmpty()) sum += refilled.deque.removeFirst();
+        return sum;
+    }
+
+    @Benchmark
+    public int cursorEditGapBuffer(GapBufferRefilled refilled){
+        for (int i = 0; i < edits; i++) refilled.buffer.add(cursors[i], values[i]);
+        return refilled.buffer.size();
+    }
+
+    @Benchmark
+    public int cursorEditArrayList(ListRefilled refilled){
+        for (int i = 0; i < edits; i++) refilled.list.add(cursors[i], values[i]);
+        return refilled.list.size();
+    }
+
+    @Benchmark
+    public int cursorEditCircularArray(CircularRefilled refilled){
+        for (int i = 0; i < edits; i++) refilled.array.add(cursors[i], values[i]);
+        return refilled.array.size();
+    }
+
+    // Insert positions of an editing session: a random start, then small random steps in either direction.
+    // The sequence grows by one with every edit, the positions stay inside it.
+    private static int[] cursorWalk(int edits, int size){
+        Random random = new Random(7);
+        int[] cursors = new int[edits];
+        int cursor = random.nextInt(size + 1);
+        for (int i = 0; i < edits; i++) {
+            cursor = Math.max(0, Math.min(size + i, cursor + random.nextInt(2 * CURSOR_DRIFT + 1) - CURSOR_DRIFT));
+            cursors[i] = cursor;
+        }
+        return cursors;
+    }
+}
@@ -0,0 +1,147 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.IntBucketQueue;
+import com.abhinavgautam.IntRadixHeap;
+import com.abhinavgautam.LongPriorityQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+// Dijkstra's algorithm on a random sparse graph with the monotone integer queues against comparison heaps.
+// Every node has DEGREE outgoing edges, the first to its successor so that the whole graph is reachable, and
+// the queues use lazy deletion: a node is added again whenever its distance drops and stale entries are
+// skipped when polled. The weights are drawn from [1, maxWeight]: 1000 is narrow, 2^20 is wide, which makes
+// the bucket queue's calendar a million days long. A pass is one run over the size nodes of the graph.
+public class ShortestPathBenchmarks extends KeyedBenchmark {
+
+    private static final int DEGREE = 4;
+
+    @Param({"1000", "1048576"})
+    public int maxWeight;
+
+    int[] targets, weights;
+
+    @Setup
+    public void generate(){
+        targets = distribution.generate(size * DEGREE, size, 42);
+        for (int i = 0; i < size; i++) targets[i * DEGREE] = (i + 1) % size;
+        weights = distribution.generate(size * DEGREE, maxWeight, 7);
+        for (int i = 0; i < weights.length; i++) weights[i]++;
+    }
+
+    @Benchmark
+    public long dijkstraIntRadixHeap(){
+        return radix(new IntRadixHeap(), size, targets, weights);
+    }
+
+    @Benchmark
+    public long dijkstraIntBucketQueue(){
+        return bucket(new IntBucketQueue(maxWeight), size, targets, weights);
+    }
+
+    @Benchmark
+    public long dijkstraLongPriorityQueue(){
+        return packed(new LongPriorityQueue(4, size), size, targets, weights);
+    }
+
+    @Benchmark
+    public long dijkstraPriorityQueue(){
+        return boxed(new PriorityQueue<>(), size, targets, weights);
+    }
+
+    private static long radix(IntRadixHeap queue, int size, int[] targets, int[] weights){
+        long[] distance = unreached(size);
+        queue.add(0, 0);
+        while (!queue.isEmpty()){
+            long d = queue.peekPriority();
+            int u = queue.poll();
+            if(d > distance[u]) continue;
+            for (int e = u * DEGREE; e < (u + 1) * DEGREE; e++) {
+                long candidate = d + weights[e];
+                int v = targets[e];
+                if(candidate < distance[v]){
+                    distance[v] = candidate;
+                    queue.add(candidate, v);
+                }
+            }
+        }
+        return checksum(distance);
+    }
+
+    private static long bucket(IntBucketQueue queue, int size, int[] targets, int[] weights){
+        long[] distance = unreached(size);
+        queue.add(0, 0);
+        while (!queue.isEmpty()){
+            long d = queue.peekPriority();
+            int u = queue.poll();
+            if(d > distance[u]) continue;
+            for (int e = u * DEGREE; e < (u + 1) * DEGREE; e++) {
+                long candidate = d + weights[e];
+                int v = targets[e];
+                if(candidate < distance[v]){
+                    distance[v] = candidate;
+                    queue.add(candidate, v);
+                }
+            }
+        }
+        return checksum(distance);
+    }
+
+    // The distances stay far below 2^31 on these graphs, so they fit the packed priority
+    private static long packed(LongPriorityQueue queue, int size, int[] targets, int[] weights){
+        long[] distance = unreached(size);
+        queue.add(0, 0);
+        while (!queue.isEmpty()){
+            long top = queue.poll();
+            long d = LongPriorityQueue.priorityOf(top);
+            int u = LongPriorityQueue.payloadOf(top);
+            if(d > distance[u]) continue;
+            for (int e = u * DEGREE; e < (u + 1) * DEGREE; e++) {
+                long candidate = d + weights[e];
+                int v = targets[e];
+                if(candidate < distance[v]){
+                    distance[v] = candidate;
+                    queue.add((int) candidate, v);
+                }
+            }
+        }
+        return checksum(distance);
+    }
+
+    // Distance in the high bits and node in the low ones, the usual way to use PriorityQueue without a pair class
+    private static long boxed(PriorityQueue<Long> queue, int size, int[] targets, int[] weights){
+        long[] distance = unreached(size);
+        queue.add(0L);
+        while (!queue.isEmpty()){
+            long top = queue.poll();
+            long d = top >>> 32;
+            int u = (int) top;
+            if(d > distance[u]) continue;
+            for (int e = u * DEGREE; e < (u + 1) * DEGREE; e++) {
+                long candidate = d + weights[e];
+                int v = targets[e];
+                if(candidate < distance[v]){
+                    distance[v] = candidate;
+                    queue.add(candidate << 32 | v);
+                }
+            }
+        }
+        return checksum(distance);
+    }
+
+    private static long[] unreached(int size){
+        long[] distance = new long[size];
+        Arrays.fill(distance, Long.MAX_VALUE);
+        distance[0] = 0;
+        return distance;
+    }
+
+    private static long checksum(long[] distance){
+        long sum = 0;
+        for (long d : distance) sum += d;
+        return sum;
+    }
+}
@@ -0,0 +1,47 @@
+package com.abhinavgautam.benchmarks;
+
+import com.abhinavgautam.UnionFind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// unify/find for the union find. There is no java.util counterpart so these are measured on their own.
+public class UnionFindBenchmarks extends KeyedBenchmark {
+
+    int[] p, q;
+
+    @Setup
+    public void generate(){
+        p = distribution.generate(size, size, 42);
+        q = distribution.generate(size, size, 43);
+    }
+
+    // Half the pairs are merged so that find() has real paths to walk and compress. Rebuilt for every pass
+    // since a pass compresses the paths it walked.
+    @State(Scope.Thread)
+    public static class HalfMerged {
+        UnionFind uf;
+
+        @Setup(Level.Invocation)
+        public void merge(UnionFindBenchmarks suite){
+            uf = new UnionFind(suite.size);
+            for (int i = 0; i < suite.size / 2; i++) uf.unify(suite.p[i], suite.q[(i + 1) % suite.size]);
+        }
+    }
+
+    @Benchmark
+    public int unify(){
+        UnionFind uf = new UnionFind(size);
+        for (int i = 0; i < size; i++) uf.unify(p[i], q[(i + 1) % size]);
+        return uf.components();
+    }
+
+    @Benchmark
+    public long find(HalfMerged merged){
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += merged.uf.find(q[i]);
+        return sum;
+    }
+}
@@ -1,3 +1,5 @@
+package com.abhinavgautam;
+
 import java.util.ConcurrentModificationException;
 
 public class BinarySearchTree<T extends Comparable<T>> {
@@ -1,3 +1,5 @@
+package com.abhinavgautam;
+
 import java.util.Iterator;
 
 public class DoublyLinkedList<T> implements Iterable<T> {
@@ -1,3 +1,5 @@
+import com.abhinavgautam.DynamicArray;
+
 public class Main {
 
     public static void main(String[] args) {
@@ -0,0 +1,183 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// DynamicArray backed by a circular buffer. The elements start at head and wrap around the end of the array,
+// so adding or removing at either end is O(1) and an insert or removal in the middle only shifts the
+// elements on the shorter side. The capacity is kept a power of two so wrapping is a mask.
+@SuppressWarnings("unchecked")
+public class CircularArray<T> implements Iterable<T> {
+
+    private T [] arr;
+    private int head = 0;
+    private int len = 0;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    public CircularArray(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CircularArray(int capacity){
+        if (capacity < 0) throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        arr = (T[]) new Object[Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1];
+    }
+
+    public int size(){
+        return len;
+    }
+
+    public boolean isEmpty(){
+        return size()==0;
+    }
+
+    // Position in arr of the element at the given index
+    private int slot(int index){
+        return (head + index) & (arr.length - 1);
+    }
+
+    public T get(int index){
+        return arr[slot(checkIndex(index))];
+    }
+
+    public void set(int index, T elem){
+        arr[slot(checkIndex(index))] = elem;
+    }
+
+    public void clear(){
+        Arrays.fill(arr, null);
+        head = len = 0;
+    }
+
+    public void add(T elem){
+        addLast(elem);
+    }
+
+    public void addLast(T elem){
+        if (len == arr.length) grow();
+        arr[slot(len++)] = elem;
+    }
+
+    public void addFirst(T elem){
+        if (len == arr.length) grow();
+        head = (head - 1) & (arr.length - 1);
+        arr[head] = elem;
+        len++;
+    }
+
+    // Inserts the element at the index, shifting the elements on the shorter side of it by one
+    public void add(int index, T elem){
+        if (index < 0 || index > len) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + len);
+        if (len == arr.length) grow();
+        if (index < len / 2){
+            head = (head - 1) & (arr.length - 1);
+            for (int i = 0; i < index; i++) arr[slot(i)] = arr[slot(i + 1)];
+        }else{
+            for (int i = len; i > index; i--) arr[slot(i)] = arr[slot(i - 1)];
+        }
+        arr[slot(index)] = elem;
+        len++;
+    }
+
+    public T removeFirst(){
+        if (isEmpty()) throw new NoSuchElementException();
+        T data = arr[head];
+        arr[head] = null;
+        head = (head + 1) & (arr.length - 1);
+        len--;
+        return data;
+    }
+
+    public T removeLast(){
+        if (isEmpty()) throw new NoSuchElementException();
+        int last = slot(len - 1);
+        T data = arr[last];
+        arr[last] = null;
+        len--;
+        return data;
+    }
+
+    //Removes the element at the specified index in this list, shifting the elements on the shorter side of it.
+    public T removeAt(int rm_index){
+        T data = arr[slot(checkIndex(rm_index))];
+        if (rm_index < len / 2){
+            for (int i = rm_index; i > 0; i--) arr[slot(i)] = arr[slot(i - 1)];
+            arr[head] = null;
+            head = (head + 1) & (arr.length - 1);
+        }else{
+            for (int i = rm_index; i < len - 1; i++) arr[slot(i)] = arr[slot(i + 1)];
+            arr[slot(len - 1)] = null;
+        }
+        len--;
+        return data;
+    }
+
+    public boolean remove(Object obj){
+        int index = indexOf(obj);
+        if (index == -1) return false;
+        removeAt(index);
+        return true;
+    }
+
+    public int indexOf(Object obj){
+        for (int i = 0; i < len; i++){
+            if (arr[slot(i)].equals(obj)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(Object obj){
+        return indexOf(obj) != -1;
+    }
+
+    // Doubles the array, unwrapping the elements so that they start at 0 again
+    private void grow(){
+        if (arr.length == 1 << 30) throw new OutOfMemoryError("Required array size too large");
+        T[] new_arr = (T[]) new Object[arr.length * 2];
+        int firstPart = Math.min(len, arr.length - head);
+        System.arraycopy(arr, head, new_arr, 0, firstPart);
+        System.arraycopy(arr, 0, new_arr, firstPart, len - firstPart);
+        arr = new_arr;
+        head = 0;
+    }
+
+    private int checkIndex(int index){
+        if (index < 0 || index >= len) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + len);
+        return index;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < len;
+            }
+
+            @Override
+            public T next() {
+                if (index >= len) throw new NoSuchElementException();
+                return arr[slot(index++)];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        if (len==0){
+            return "[]";
+        }
+        else{
+            StringBuilder sb = new StringBuilder(len).append("[");
+            for (int i = 0; i< len-1; i++){
+                sb.append(arr[slot(i)]+",");
+            }
+            return sb.append(arr[slot(len-1)]+"]").toString();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+@SuppressWarnings("unchecked")
+public class DynamicArray<T> implements Iterable<T> {
+
+    private T [] arr;
+    private int len = 0;
+    private int capacity = 0;
+    // Largest capacity asked for by the constructor or ensureCapacity, removals never shrink the array below it
+    private int reservedCapacity = 0;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    public DynamicArray(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public  DynamicArray(int capacity){
+        if (capacity < 0) throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        this.capacity = capacity;
+        reservedCapacity = capacity;
+        arr = (T[]) new Object[capacity];
+    }
+
+    public int size(){
+        return len;
+    }
+
+    public boolean isEmpty(){
+        return size()==0;
+    }
+
+    public T get(int index){
+        return arr[index];
+    }
+
+    public void set(int index, T elem){
+        arr[index] = elem;
+    }
+
+    public void clear(){
+        for (int i = 0; i < capacity; i++){
+            arr[i] = null;
+        }
+        len = 0;
+    }
+
+    public void add(T elem){
+        // Time to resize
+        if(len == capacity) grow(len + 1);
+        arr[len++] = elem;
+    }
+
+    // Grows the array, if needed, so that it can hold minCapacity elements without resizing,
+    // and keeps at least that capacity until trimToSize is called
+    public void ensureCapacity(int minCapacity){
+        reservedCapacity = Math.max(reservedCapacity, minCapacity);
+        if (minCapacity > capacity) grow(minCapacity);
+    }
+
+    // Shrinks the array to its size and drops the capacity reserved by the constructor or ensureCapacity
+    public void trimToSize(){
+        reservedCapacity = 0;
+        if (len < capacity) resize(len);
+    }
+
+    // Grows the array to hold at least minCapacity elements, doubling it at the least
+    private void grow(int minCapacity){
+        resize(Math.max(minCapacity, capacity * 2));
+    }
+
+    //Removes the element at the specified index in this list.
+    public T removeAt(int rm_index){
+        if (rm_index >= len || rm_index < 0) throw new IndexOutOfBoundsException("Index: " + rm_index + ", Size: " + len);
+        T data = arr[rm_index];
+        // Shift the elements after the index down by one, in place
+        System.arraycopy(arr, rm_index + 1, arr, rm_index, len - rm_index - 1);
+        arr[--len] = null;
+        shrinkIfSparse();
+        return data;
+    }
+
+    // Removes all the elements matching the filter in a single pass, returns true if any were removed
+    public boolean removeIf(Predicate<? super T> filter){
+        int kept = 0;
+        for (int i = 0; i < len; i++){
+            if (!filter.test(arr[i])) arr[kept++] = arr[i];
+        }
+        if (kept == len) return false;
+        Arrays.fill(arr, kept, len, null);
+        len = kept;
+        shrinkIfSparse();
+        return true;
+    }
+
+    // Halves the array once it is only a quarter full. Shrinking at a quarter rather than at a half means
+    // alternating adds and removes around a power of two can't make every operation resize. The array never
+    // shrinks below the reserved capacity, a caller that presized it expects it to be refilled.
+    private void shrinkIfSparse(){
+        int floor = Math.max(DEFAULT_CAPACITY, reservedCapacity);
+        if (capacity > floor && len <= capacity / 4) resize(Math.max(floor, capacity / 2));
+    }
+
+    private void resize(int newCapacity){
+        arr = Arrays.copyOf(arr, newCapacity);
+        capacity = newCapacity;
+    }
+
+    public boolean remove(Object obj){
+        for (int i = 0; i<len;i++){
+            if(arr[i].equals(obj)){
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int indexOf(Object obj){
+        for (int i = 0; i<len; i++){
+            if(arr[i].equals(obj)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(Object obj){
+        return indexOf(obj) != -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < len;
+            }
+
+            @Override
+            public T next() {
+                return arr[index++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        if (len==0){
+            return "[]";
+        }
+        else{
+            StringBuilder sb = new StringBuilder(len).append("[");
+            for (int i = 0; i< len-1; i++){
+                sb.append(arr[i]+",");
+            }
+            return sb.append(arr[len-1]+"]").toString();
+        }
+    }
+}
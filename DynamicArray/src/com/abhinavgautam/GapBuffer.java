@@ -0,0 +1,181 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// DynamicArray with a gap of free cells at a cursor, the structure text editors use. Inserting or deleting at
+// the cursor is O(1), and moving the cursor only shifts the elements between its old and new position, so a
+// run of edits close to each other is cheap no matter where in the sequence it happens.
+// The elements before the cursor live in arr[0,gapStart), the ones after it in arr[gapEnd,arr.length).
+@SuppressWarnings("unchecked")
+public class GapBuffer<T> implements Iterable<T> {
+
+    private T [] arr;
+    private int gapStart = 0;
+    private int gapEnd;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    public GapBuffer(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public GapBuffer(int capacity){
+        if (capacity < 0) throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        arr = (T[]) new Object[capacity];
+        gapEnd = capacity;
+    }
+
+    public int size(){
+        return arr.length - (gapEnd - gapStart);
+    }
+
+    public boolean isEmpty(){
+        return size()==0;
+    }
+
+    // Position in arr of the element at the given index
+    private int slot(int index){
+        return index < gapStart ? index : index + (gapEnd - gapStart);
+    }
+
+    public T get(int index){
+        return arr[slot(checkIndex(index))];
+    }
+
+    public void set(int index, T elem){
+        arr[slot(checkIndex(index))] = elem;
+    }
+
+    public void clear(){
+        Arrays.fill(arr, null);
+        gapStart = 0;
+        gapEnd = arr.length;
+    }
+
+    // Returns the index the next insert at the cursor goes to
+    public int cursor(){
+        return gapStart;
+    }
+
+    // Moves the cursor in front of the element at the given index, or to the end when index is size()
+    public void moveCursor(int index){
+        if (index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        if (index < gapStart){
+            // Elements [index,gapStart) move to the far side of the gap
+            int count = gapStart - index;
+            System.arraycopy(arr, index, arr, gapEnd - count, count);
+            Arrays.fill(arr, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart = index;
+            gapEnd -= count;
+        }else if (index > gapStart){
+            // Elements after the gap, up to the index, move to its near side
+            int count = index - gapStart;
+            System.arraycopy(arr, gapEnd, arr, gapStart, count);
+            Arrays.fill(arr, Math.max(gapEnd, index), gapEnd + count, null);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    // Inserts the element at the cursor and moves the cursor past it
+    public void insert(T elem){
+        if (gapStart == gapEnd) grow();
+        arr[gapStart++] = elem;
+    }
+
+    // Removes the element in front of the cursor, as a backspace does
+    public T delete(){
+        if (gapStart == 0) throw new NoSuchElementException();
+        T data = arr[--gapStart];
+        arr[gapStart] = null;
+        return data;
+    }
+
+    public void add(T elem){
+        add(size(), elem);
+    }
+
+    // Inserts the element at the index, the cursor ends up right after it
+    public void add(int index, T elem){
+        moveCursor(index);
+        insert(elem);
+    }
+
+    //Removes the element at the specified index in this list, the cursor ends up at the index.
+    public T removeAt(int rm_index){
+        checkIndex(rm_index);
+        moveCursor(rm_index + 1);
+        return delete();
+    }
+
+    public boolean remove(Object obj){
+        int index = indexOf(obj);
+        if (index == -1) return false;
+        removeAt(index);
+        return true;
+    }
+
+    public int indexOf(Object obj){
+        for (int i = 0; i < size(); i++){
+            if (arr[slot(i)].equals(obj)){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(Object obj){
+        return indexOf(obj) != -1;
+    }
+
+    // Doubles the array, the extra cells all go to the gap
+    private void grow(){
+        int newCapacity = Math.max(DEFAULT_CAPACITY, arr.length * 2);
+        if (newCapacity < 0) throw new OutOfMemoryError("Required array size too large");
+        T[] new_arr = (T[]) new Object[newCapacity];
+        int tail = arr.length - gapEnd;
+        System.arraycopy(arr, 0, new_arr, 0, gapStart);
+        System.arraycopy(arr, gapEnd, new_arr, newCapacity - tail, tail);
+        arr = new_arr;
+        gapEnd = newCapacity - tail;
+    }
+
+    private int checkIndex(int index){
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        return index;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public T next() {
+                if (index >= size()) throw new NoSuchElementException();
+                return arr[slot(index++)];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        int len = size();
+        if (len==0){
+            return "[]";
+        }
+        else{
+            StringBuilder sb = new StringBuilder(len).append("[");
+            for (int i = 0; i< len-1; i++){
+                sb.append(arr[slot(i)]+",");
+            }
+            return sb.append(arr[slot(len-1)]+"]").toString();
+        }
+    }
+}
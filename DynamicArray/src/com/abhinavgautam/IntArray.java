@@ -0,0 +1,181 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+// DynamicArray specialised for int. The elements live unboxed in an int[], a quarter of the memory of
+// boxed Integers, and scans run over contiguous memory without calling equals.
+public class IntArray {
+
+    private int [] arr;
+    private int len = 0;
+    // Largest capacity asked for by the constructor or ensureCapacity, removals never shrink the array below it
+    private int reservedCapacity = 0;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    public IntArray(){
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntArray(int capacity){
+        if (capacity < 0) throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        reservedCapacity = capacity;
+        arr = new int[capacity];
+    }
+
+    public int size(){
+        return len;
+    }
+
+    public boolean isEmpty(){
+        return size()==0;
+    }
+
+    public int get(int index){
+        return arr[checkIndex(index)];
+    }
+
+    public void set(int index, int elem){
+        arr[checkIndex(index)] = elem;
+    }
+
+    public void clear(){
+        len = 0;
+    }
+
+    public void add(int elem){
+        if (len == arr.length) grow(len + 1);
+        arr[len++] = elem;
+    }
+
+    // Appends all the elements, growing the array at most once
+    public void addAll(int[] elems){
+        if (len + elems.length > arr.length) grow(len + elems.length);
+        System.arraycopy(elems, 0, arr, len, elems.length);
+        len += elems.length;
+    }
+
+    //Removes the element at the specified index in this list.
+    public int removeAt(int rm_index){
+        int data = arr[checkIndex(rm_index)];
+        System.arraycopy(arr, rm_index + 1, arr, rm_index, len - rm_index - 1);
+        len--;
+        shrinkIfSparse();
+        return data;
+    }
+
+    // Removes all the elements matching the filter in a single pass, returns true if any were removed
+    public boolean removeIf(IntPredicate filter){
+        int kept = 0;
+        for (int i = 0; i < len; i++){
+            if (!filter.test(arr[i])) arr[kept++] = arr[i];
+        }
+        if (kept == len) return false;
+        len = kept;
+        shrinkIfSparse();
+        return true;
+    }
+
+    // Removes the first occurrence of the value
+    public boolean remove(int elem){
+        int index = indexOf(elem);
+        if (index == -1) return false;
+        removeAt(index);
+        return true;
+    }
+
+    public int indexOf(int elem){
+        for (int i = 0; i < len; i++){
+            if (arr[i] == elem){
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(int elem){
+        return indexOf(elem) != -1;
+    }
+
+    // Sorts the elements into ascending order
+    public void sort(){
+        Arrays.sort(arr, 0, len);
+    }
+
+    // Searches a sorted array for the value. Returns its index, or (-(insertion point) - 1) if it isn't present.
+    public int binarySearch(int elem){
+        return Arrays.binarySearch(arr, 0, len, elem);
+    }
+
+    public void forEach(IntConsumer action){
+        for (int i = 0; i < len; i++) action.accept(arr[i]);
+    }
+
+    public int[] toArray(){
+        return Arrays.copyOf(arr, len);
+    }
+
+    // Grows the array, if needed, so that it can hold minCapacity elements without resizing,
+    // and keeps at least that capacity until trimToSize is called
+    public void ensureCapacity(int minCapacity){
+        reservedCapacity = Math.max(reservedCapacity, minCapacity);
+        if (minCapacity > arr.length) grow(minCapacity);
+    }
+
+    // Shrinks the array to its size and drops the capacity reserved by the constructor or ensureCapacity
+    public void trimToSize(){
+        reservedCapacity = 0;
+        if (len < arr.length) arr = Arrays.copyOf(arr, len);
+    }
+
+    // Grows the backing array to hold at least minCapacity elements, doubling it at the least
+    private void grow(int minCapacity){
+        if (minCapacity < 0) throw new OutOfMemoryError("Required array size too large");
+        arr = Arrays.copyOf(arr, Math.max(minCapacity, arr.length * 2));
+    }
+
+    // Halves the array once it is only a quarter full, but not below the reserved capacity, as DynamicArray does
+    private void shrinkIfSparse(){
+        int floor = Math.max(DEFAULT_CAPACITY, reservedCapacity);
+        if (arr.length > floor && len <= arr.length / 4) arr = Arrays.copyOf(arr, Math.max(floor, arr.length / 2));
+    }
+
+    private int checkIndex(int index){
+        if (index < 0 || index >= len) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + len);
+        return index;
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                return index < len;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= len) throw new NoSuchElementException();
+                return arr[index++];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        if (len==0){
+            return "[]";
+        }
+        else{
+            StringBuilder sb = new StringBuilder(len).append("[");
+            for (int i = 0; i< len-1; i++){
+                sb.append(arr[i]).append(",");
+            }
+            return sb.append(arr[len-1]).append("]").toString();
+        }
+    }
+}
@@ -14,6 +14,13 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
     private K [] keyTable;
     private V [] valueTable;
 
+    // With incremental resizing the previous table stays around after a resize and every insert or remove
+    // moves migrationStep of its cells into the new table. Cells below migrateIndex have been moved.
+    private boolean incrementalResize;
+    private int migrationStep, migrateIndex;
+    private K [] oldKeyTable;
+    private V [] oldValueTable;
+
     // Flag used to indicate whether an item was found in the hash-table
     private boolean containsFlag = false;
 
@@ -22,6 +29,10 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
 
     private static final int DEFAULT_CAPACITY = 8;
     private static final double DEFAULT_LOAD_FACTOR = 0.45;
+    private static final int DEFAULT_MIGRATION_STEP = 16;
+    // Number of keys of a batch whose home cells are loaded together, at most 64 since getAll and removeAll keep a bit per key
+    private static final int BATCH_GROUP = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
 
     // Constructors
     public HashTableQuadraticProbing(){
@@ -30,30 +41,46 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
     public HashTableQuadraticProbing(int capacity){
         this(capacity,DEFAULT_LOAD_FACTOR);
     }
-    // Designated Constructor
     public HashTableQuadraticProbing(int capacity, double loadFactor){
+        this(capacity,loadFactor,false);
+    }
+    // Designated Constructor. With incrementalResize the cost of a resize is spread over the following
+    // operations instead of being paid by the insert that crosses the threshold.
+    public HashTableQuadraticProbing(int capacity, double loadFactor, boolean incrementalResize){
         if(capacity <= 0)
             throw new IllegalArgumentException("Illegal Capacity");
         if(loadFactor <= 0 || Double.isNaN(loadFactor) || Double.isInfinite(loadFactor))
             throw new IllegalArgumentException("Illegal Load Factor");
         this.loadFactor = loadFactor;
-        this.capacity = Math.max(capacity,DEFAULT_CAPACITY);
+        // Keep the capacity a power of two: the quadratic probing function then visits every cell
+        // and indices can be computed with a mask instead of a division
+        this.capacity = Math.max(DEFAULT_CAPACITY, next2power(capacity - 1));
         threshold = (int) (this.capacity*this.loadFactor);
+        this.incrementalResize = incrementalResize;
+        // The old table has half the cells of the new one and at most threshold/2 keys. Moving more than
+        // 2/loadFactor cells per insert empties it before the new table reaches its own threshold.
+        this.migrationStep = Math.max(DEFAULT_MIGRATION_STEP, (int) Math.ceil(2 / loadFactor));
 
         keyTable = (K[]) new Object[this.capacity];
         valueTable = (V[]) new Object[this.capacity];
     }
     // Given a number this method finds the next power of two above this value.
     private static int next2power(int n){
-        return Integer.highestOneBit(n) << 1;
+        return Integer.highestOneBit(Math.max(n, 1)) << 1;
     }
-    // Quadratic Probing function
+    // Quadratic Probing function. The offsets are the triangular numbers 0, 1, 3, 6, ..., which modulo a power
+    // of two capacity form a permutation of [0,capacity), so a probe sequence never misses a free cell.
     private static int P(int x){
         return (x*x+x) >> 1;
     }
-    // Converts the hash value to an index. This strips the negative sign and places the hash value in the domain [0,capacity)
+    // Fibonacci hashing, spreads weak hashCode()s (sequential or strided values) before the low bits are masked off
+    private static int hash(Object key){
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+    // Converts the hash value to an index. Capacity is a power of two so a mask places it in the domain [0,capacity)
     private int normalizeIndex(int keyHash){
-        return (keyHash & 0x7FFFFFFF) % capacity;
+        return keyHash & (capacity - 1);
     }
     // Clears all the contents in the hash-table
     public void clear(){
@@ -61,6 +88,8 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
             keyTable[i] = null;
             valueTable[i] = null;
         }
+        oldKeyTable = null;
+        oldValueTable = null;
         keyCount=usedBuckets=0;
         modificationCount++;
     }
@@ -73,8 +102,22 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
     public V insert(K key, V value){
         if(key == null) throw new IllegalArgumentException("Null Key");
         if (usedBuckets >= threshold) resizeTable();
-
-        final int hash = normalizeIndex(key.hashCode());
+        if(oldKeyTable != null){
+            migrate(migrationStep);
+            // A key that hasn't been moved yet is updated where it is
+            int k = oldIndexOf(key);
+            if(k != -1){
+                V oldValue = oldValueTable[k];
+                oldValueTable[k] = value;
+                modificationCount++;
+                return oldValue;
+            }
+        }
+        return insertHashed(hash(key), key, value);
+    }
+    // Inserts a key whose hash has already been computed. The caller has made room for it and checked the old table.
+    private V insertHashed(int keyHash, K key, V value){
+        final int hash = normalizeIndex(keyHash);
         // i -> HT index, j -> Tombstone index, x -> Probing function offset
         int i = hash, j = -1, x = 1;
         do {
@@ -128,7 +171,11 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
     // Returns null if the value is null and also if the value doesn't exists.
     public V get(K key){
         if(key == null) throw new IllegalArgumentException("Null key");
-        final int hash = normalizeIndex(key.hashCode());
+        return getHashed(hash(key), key);
+    }
+    // Looks up a key whose hash has already been computed
+    private V getHashed(int keyHash, K key){
+        final int hash = normalizeIndex(keyHash);
         int i = hash, j = -1, x = 1;
 
         // Starting at the original hash index, quadratically probe until we find the spot where our key is.
@@ -139,7 +186,7 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
                     j = i;
                 }
             // We hit a non-null key
-            }else if(keyTable[i] != TOMBSTONE){
+            }else if(keyTable[i] != null){
                 // Found the key we want
                 if (keyTable[i].equals(key)){
                     containsFlag = true;
@@ -155,10 +202,11 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
                         return valueTable[i];
                     }
                 }
-            // Element was not found in the hash-table
+            // Element was not found in the hash-table, it may still be waiting in the old table
             }else{
-                containsFlag = false;
-                return null;
+                int k = oldIndexOf(key);
+                containsFlag = k != -1;
+                return containsFlag ? oldValueTable[k] : null;
             }
             i = normalizeIndex(hash + P(x++));
         }while(true);
@@ -166,14 +214,19 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
     // Removes a key from the hash-table and returns the value.
     public V remove(K key){
         if(key == null) throw new IllegalArgumentException("Null key");
-        final int hash = normalizeIndex(key.hashCode());
+        if(oldKeyTable != null) migrate(migrationStep);
+        return removeHashed(hash(key), key);
+    }
+    // Removes a key whose hash has already been computed
+    private V removeHashed(int keyHash, K key){
+        final int hash = normalizeIndex(keyHash);
         int i = hash, x = 1;
 
         // Starting at the original hash index, quadratically probe until we find the spot where our key is.
         // Or we hit the null element in which case our key does not exist.
         for(;; i = normalizeIndex(hash + P(x++))) {
             if(keyTable[i] == TOMBSTONE) continue;
-            if(keyTable == null) return null;
+            if(keyTable[i] == null) return removeOld(key);
             if(keyTable[i].equals(key)){
                 keyCount--;
                 modificationCount++;
@@ -184,6 +237,74 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
             }
         }
     }
+    // Places keys[i] => values[i] into the hash-table for every i. The table grows at most once for the whole
+    // batch instead of doubling over and over while it fills up.
+    public void insertAll(K[] keys, V[] values){
+        if(keys.length != values.length) throw new IllegalArgumentException("Illegal Batch");
+        int[] hashes = hashAll(keys);
+        reserve(keys.length);
+        for (int i = 0; i < keys.length; i++) insertHashed(hashes[i], keys[i], values[i]);
+    }
+    // Stores the value of keys[i] in values[i] for every i, null for the keys that don't exist. The keys are
+    // processed in groups: the home cells of a group are read first, and keys whose home cell is empty are
+    // skipped instead of probed.
+    public void getAll(K[] keys, V[] values){
+        if(keys.length != values.length) throw new IllegalArgumentException("Illegal Batch");
+        int[] hashes = hashAll(keys);
+        for (int start = 0; start < keys.length; start += BATCH_GROUP) {
+            int end = Math.min(keys.length, start + BATCH_GROUP);
+            // Bit i - start is set when the home cell of keys[i] is empty
+            long emptyHomes = 0;
+            for (int i = start; i < end; i++) {
+                if(keyTable[normalizeIndex(hashes[i])] == null) emptyHomes |= 1L << (i - start);
+            }
+            for (int i = start; i < end; i++) {
+                // An empty home cell already answers the lookup, unless the key may still be in the old table
+                if((emptyHomes & 1L << (i - start)) != 0 && oldKeyTable == null) values[i] = null;
+                else values[i] = getHashed(hashes[i], keys[i]);
+            }
+        }
+    }
+    // Removes all the given keys from the hash-table and returns how many of them were found.
+    public int removeAll(K[] keys){
+        int[] hashes = hashAll(keys);
+        int before = keyCount;
+        for (int start = 0; start < keys.length; start += BATCH_GROUP) {
+            int end = Math.min(keys.length, start + BATCH_GROUP);
+            // A running incremental resize advances by one step per group, as it does for a single remove
+            if(oldKeyTable != null) migrate(migrationStep);
+            // Bit i - start is set when the home cell of keys[i] is empty
+            long emptyHomes = 0;
+            for (int i = start; i < end; i++) {
+                if(keyTable[normalizeIndex(hashes[i])] == null) emptyHomes |= 1L << (i - start);
+            }
+            // Removing leaves a tombstone, so a home cell that was empty stays empty and its key isn't in the
+            // current table. It may still be in the old table, removeHashed looks there too.
+            for (int i = start; i < end; i++) {
+                if((emptyHomes & 1L << (i - start)) == 0 || oldKeyTable != null) removeHashed(hashes[i], keys[i]);
+            }
+        }
+        return before - keyCount;
+    }
+    // Computes the hashes of a batch, rejecting null keys before anything is modified
+    private static int[] hashAll(Object[] keys){
+        int[] hashes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if(keys[i] == null) throw new IllegalArgumentException("Null Key");
+            hashes[i] = hash(keys[i]);
+        }
+        return hashes;
+    }
+    // Makes room for extra more keys so that none of the following inserts resizes the table. A running
+    // incremental resize is finished first and the table then grows in one step to the size it needs.
+    private void reserve(int extra){
+        if(oldKeyTable != null) migrate(oldKeyTable.length);
+        if((long) usedBuckets + extra <= threshold) return;
+        int newCapacity = capacity;
+        while (newCapacity * loadFactor < (double) keyCount + extra && newCapacity < MAXIMUM_CAPACITY) newCapacity <<= 1;
+        resizeTable(newCapacity);
+        if(oldKeyTable != null) migrate(oldKeyTable.length);
+    }
     // Returns a list of keys found in the hash-table
     public List<K> keys(){
         List<K> keys = new ArrayList<>(size());
@@ -192,6 +313,11 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
                 keys.add(keyTable[i]);
             }
         }
+        for (int i = 0; oldKeyTable != null && i < oldKeyTable.length; i++) {
+            if (oldKeyTable[i] != null && oldKeyTable[i] != TOMBSTONE){
+                keys.add(oldKeyTable[i]);
+            }
+        }
         return keys;
     }
     // Returns a list of values found in the hash-table
@@ -202,36 +328,89 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
                 values.add(valueTable[i]);
             }
         }
+        for (int i = 0; oldKeyTable != null && i < oldKeyTable.length; i++) {
+            if (oldKeyTable[i] != null && oldKeyTable[i] != TOMBSTONE){
+                values.add(oldValueTable[i]);
+            }
+        }
         return values;
     }
-    // Double the size of hash-table
+    // Rebuild the hash-table without its tombstones. The size only doubles when the live keys need the room, a
+    // table whose used cells are mostly tombstones is rebuilt at the same capacity, so insert/remove churn with
+    // a steady number of keys can't grow it. The keys are moved right away, or a few cells at a time by the
+    // following operations when the table resizes incrementally.
     private void resizeTable(){
-        capacity *= 2;
-        threshold = (int) (capacity*loadFactor);
-
-        K[] oldKeyTable =(K[]) new Object[capacity];
-        V[] oldValueTable =(V[]) new Object[capacity];
-
-        // Perform key table pointer swap;
-        K[] keyTableTmp = keyTable;
-        keyTable = oldKeyTable;
-        oldKeyTable = keyTableTmp;
+        resizeTable(keyCount >= threshold / 2 && capacity < MAXIMUM_CAPACITY ? capacity * 2 : capacity);
+    }
+    // Moves the keys into a table with newCapacity cells, a power of two
+    private void resizeTable(int newCapacity){
+        // A resize that is still in progress has to finish before the next one can start
+        if(oldKeyTable != null) migrate(oldKeyTable.length);
+        oldKeyTable = keyTable;
+        oldValueTable = valueTable;
+        migrateIndex = 0;
 
-        // Perform value table pointer swap;
-        V[] valueTableTmp = valueTable;
-        valueTable = oldValueTable;
-        oldValueTable = valueTableTmp;
+        capacity = newCapacity;
+        threshold = (int) (capacity*loadFactor);
+        keyTable = (K[]) new Object[capacity];
+        valueTable = (V[]) new Object[capacity];
+        usedBuckets = 0;
 
-        // Reset the keyCount and usedBucket count since we are going to re-insert all the keys again.
-        keyCount = usedBuckets = 0;
-        for (int i = 0; i < oldKeyTable.length; i++) {
-            if(oldKeyTable[i] != null && oldKeyTable[i] != TOMBSTONE){
-                insert(oldKeyTable[i],oldValueTable[i]);
+        if(!incrementalResize) migrate(oldKeyTable.length);
+    }
+    // Moves the keys of the next cells cells of the old table into the current table
+    private void migrate(int cells){
+        int end = Math.min(oldKeyTable.length, migrateIndex + cells);
+        for (; migrateIndex < end; migrateIndex++) {
+            K key = oldKeyTable[migrateIndex];
+            if(key != null && key != TOMBSTONE){
+                place(key, oldValueTable[migrateIndex]);
+                // Leave a tombstone so the probe sequences of the keys still in the old table stay intact
+                oldKeyTable[migrateIndex] = TOMBSTONE;
             }
-            oldKeyTable[i] = null;
-            oldValueTable[i] = null;
+            oldValueTable[migrateIndex] = null;
+        }
+        modificationCount++;
+        if(migrateIndex == oldKeyTable.length){
+            oldKeyTable = null;
+            oldValueTable = null;
         }
     }
+    // Stores a key that is known not to be in the current table in the first free cell of its probe sequence
+    private void place(K key, V value){
+        final int hash = normalizeIndex(hash(key));
+        int i = hash, x = 1;
+        while (keyTable[i] != null && keyTable[i] != TOMBSTONE) i = normalizeIndex(hash + P(x++));
+        if(keyTable[i] == null) usedBuckets++;
+        keyTable[i] = key;
+        valueTable[i] = value;
+    }
+    // Finds the cell of the old table holding the key, -1 if there is no old table or the key isn't in it.
+    // Keys are never relocated inside the old table, a key moved below migrateIndex would be lost.
+    private int oldIndexOf(K key){
+        if(oldKeyTable == null) return -1;
+        final int mask = oldKeyTable.length - 1;
+        final int hash = hash(key) & mask;
+        for (int i = hash, x = 1; ; i = (hash + P(x++)) & mask) {
+            if(oldKeyTable[i] == null) return -1;
+            if(oldKeyTable[i] != TOMBSTONE && oldKeyTable[i].equals(key)) return i;
+        }
+    }
+    // Removes a key that wasn't found in the current table from the old table
+    private V removeOld(K key){
+        int i = oldIndexOf(key);
+        if(i == -1) return null;
+        keyCount--;
+        modificationCount++;
+        V oldValue = oldValueTable[i];
+        oldKeyTable[i] = TOMBSTONE;
+        oldValueTable[i] = null;
+        return oldValue;
+    }
+    // Returns the key in a cell, numbering the cells of the old table after those of the current one
+    private K keyAt(int index){
+        return index < capacity ? keyTable[index] : oldKeyTable[index - capacity];
+    }
 
     // Return a String view of this hash-table.
     @Override
@@ -240,6 +419,8 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
         sb.append("{");
         for (int i = 0; i < capacity; i++)
             if (keyTable[i] != null && keyTable[i] != TOMBSTONE) sb.append(keyTable[i] + " => " + valueTable[i] + ", ");
+        for (int i = 0; oldKeyTable != null && i < oldKeyTable.length; i++)
+            if (oldKeyTable[i] != null && oldKeyTable[i] != TOMBSTONE) sb.append(oldKeyTable[i] + " => " + oldValueTable[i] + ", ");
         sb.append("}");
 
         return sb.toString();
@@ -264,9 +445,10 @@ public class HashTableQuadraticProbing<K,V> implements Iterable<K> {
             // Find the next element and return it
             @Override
             public K next() {
-                while (keyTable[index] == null || keyTable[index] == TOMBSTONE) index++;
+                K key;
+                while ((key = keyAt(index++)) == null || key == TOMBSTONE);
                 keysLeft--;
-                return keyTable[index++];
+                return key;
             }
 
             @Override
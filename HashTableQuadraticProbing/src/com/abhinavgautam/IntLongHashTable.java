@@ -0,0 +1,260 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+
+// Open addressing int -> long hash-table using the same quadratic probing scheme and tombstone logic as HashTableQuadraticProbing,
+// but over primitive arrays. Empty and deleted cells are marked with reserved key values instead of null and
+// the TOMBSTONE object, so insert, get and remove never allocate.
+public class IntLongHashTable {
+    // Reserved key values marking empty and deleted cells, these two keys can not be stored in the hash-table.
+    public static final int EMPTY_KEY = Integer.MIN_VALUE;
+    public static final int TOMBSTONE_KEY = Integer.MIN_VALUE + 1;
+
+    // Callback used by forEach, receives every key-value pair without boxing.
+    public interface IntLongConsumer {
+        void accept(int key, long value);
+    }
+
+    private double loadFactor;
+    private int capacity, threshold, modificationCount = 0;
+
+    // usedBuckets counts the total number of used in the hash-table including cells marked as deleted.
+    // keyCount tracks the total number of unique keys inside the hash table
+    private int usedBuckets = 0, keyCount = 0;
+
+    // These arrays store the key value pairs
+    private int[] keyTable;
+    private long[] valueTable;
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final double DEFAULT_LOAD_FACTOR = 0.45;
+
+    // Constructors
+    public IntLongHashTable(){
+        this(DEFAULT_CAPACITY,DEFAULT_LOAD_FACTOR);
+    }
+    public IntLongHashTable(int capacity){
+        this(capacity,DEFAULT_LOAD_FACTOR);
+    }
+    // Designated Constructor
+    public IntLongHashTable(int capacity, double loadFactor){
+        if(capacity <= 0)
+            throw new IllegalArgumentException("Illegal Capacity");
+        if(loadFactor <= 0 || Double.isNaN(loadFactor) || Double.isInfinite(loadFactor))
+            throw new IllegalArgumentException("Illegal Load Factor");
+        this.loadFactor = loadFactor;
+        // The quadratic probing function only visits every cell when the capacity is a power of two
+        this.capacity = Math.max(DEFAULT_CAPACITY, next2power(capacity - 1));
+        threshold = (int) (this.capacity*this.loadFactor);
+
+        keyTable = new int[this.capacity];
+        valueTable = new long[this.capacity];
+        Arrays.fill(keyTable, EMPTY_KEY);
+    }
+    // Given a number this method finds the next power of two above this value.
+    private static int next2power(int n){
+        return Integer.highestOneBit(Math.max(n, 1)) << 1;
+    }
+    // Quadratic Probing function
+    private static int P(int x){
+        return (x*x+x) >> 1;
+    }
+    // Fibonacci hashing, spreads sequential and strided keys before the low bits are masked off
+    private static int hash(int key){
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+    // Converts the hash value to an index. Capacity is a power of two so a mask places it in the domain [0,capacity)
+    private int normalizeIndex(int keyHash){
+        return keyHash & (capacity - 1);
+    }
+    // Rejects the two reserved key values
+    private static void checkKey(int key){
+        if(key == EMPTY_KEY || key == TOMBSTONE_KEY) throw new IllegalArgumentException("Illegal Key");
+    }
+    // Clears all the contents in the hash-table
+    public void clear(){
+        Arrays.fill(keyTable, EMPTY_KEY);
+        keyCount=usedBuckets=0;
+        modificationCount++;
+    }
+    // Returns the number of keys currently inside the hash-table.
+    public int size(){return keyCount;}
+    // Returns true/false depending on whether hash-table is empty.
+    public boolean isEmpty(){return keyCount==0;}
+    // Places a key-value pair into the hash-table.
+    // If key already exists in the hash-table then value is updated and the old value is returned, otherwise 0L.
+    public long insert(int key, long value){
+        checkKey(key);
+        if (usedBuckets >= threshold) resizeTable();
+
+        final int hash = normalizeIndex(hash(key));
+        // i -> HT index, j -> Tombstone index, x -> Probing function offset
+        int i = hash, j = -1, x = 1;
+        do {
+            int current = keyTable[i];
+            // The current slot was previously deleted
+            if(current == TOMBSTONE_KEY){
+                if(j==-1) j=i;
+            // The key we are trying to insert already exists so update its value.
+            }else if(current == key){
+                long oldValue = valueTable[i];
+                // If we haven't hit the tombstone, update the value
+                if(j==-1){
+                    valueTable[i] = value;
+                // If we hit the tombstone then swap it with the tombstone (optimization)
+                }else{
+                    keyTable[i] = TOMBSTONE_KEY;
+                    valueTable[i] = 0L;
+                    keyTable[j] = key;
+                    valueTable[j] = value;
+                }
+                modificationCount++;
+                return oldValue;
+            // Current cell is empty so an insertion can occur.
+            }else if(current == EMPTY_KEY){
+                // If we haven't hit the tombstone, insert key-value at i.
+                if(j == -1){
+                    usedBuckets++;
+                    keyCount++;
+                    keyTable[i] = key;
+                    valueTable[i] = value;
+                // If we hit the tombstone earlier, insert the key-value in place of tombstone.
+                }else{
+                    keyCount++;
+                    keyTable[j] = key;
+                    valueTable[j] = value;
+                }
+                modificationCount++;
+                return 0L;
+            }
+            i = normalizeIndex(hash + P(x++));
+        }while (true);
+    }
+    // Returns true/false on whether the given key exists in the hash-table.
+    public boolean hasKey(int key){
+        return indexOf(key) != -1;
+    }
+    // Get the value associated with the input key, returns 0L if the key doesn't exist.
+    public long get(int key){
+        return getOrDefault(key, 0L);
+    }
+    // Get the value associated with the input key, returns defaultValue if the key doesn't exist.
+    public long getOrDefault(int key, long defaultValue){
+        int i = indexOf(key);
+        return i == -1 ? defaultValue : valueTable[i];
+    }
+    // Finds the cell holding the key, -1 if the key doesn't exist.
+    private int indexOf(int key){
+        checkKey(key);
+        final int hash = normalizeIndex(hash(key));
+        int i = hash, j = -1, x = 1;
+
+        // Starting at the original hash index, quadratically probe until we find the spot where our key is.
+        // Or we hit an empty cell in which case our key does not exist.
+        do {
+            int current = keyTable[i];
+            if(current == TOMBSTONE_KEY){
+                if(j == -1) j = i;
+            // Found the key we want
+            }else if(current == key){
+                // If we hit tombstone earlier perform lazy relocation (optimization)
+                if(j != -1){
+                    keyTable[j] = key;
+                    valueTable[j] = valueTable[i];
+
+                    keyTable[i] = TOMBSTONE_KEY;
+                    valueTable[i] = 0L;
+                    return j;
+                }
+                return i;
+            // Element was not found in the hash-table
+            }else if(current == EMPTY_KEY){
+                return -1;
+            }
+            i = normalizeIndex(hash + P(x++));
+        }while(true);
+    }
+    // Removes a key from the hash-table and returns the value, 0L if the key doesn't exist.
+    public long remove(int key){
+        checkKey(key);
+        final int hash = normalizeIndex(hash(key));
+        int i = hash, x = 1;
+
+        // Starting at the original hash index, quadratically probe until we find the spot where our key is.
+        // Or we hit an empty cell in which case our key does not exist.
+        for(;; i = normalizeIndex(hash + P(x++))) {
+            int current = keyTable[i];
+            if(current == TOMBSTONE_KEY) continue;
+            if(current == EMPTY_KEY) return 0L;
+            if(current == key){
+                keyCount--;
+                modificationCount++;
+                long oldValue = valueTable[i];
+                keyTable[i] = TOMBSTONE_KEY;
+                valueTable[i] = 0L;
+                return oldValue;
+            }
+        }
+    }
+    // Calls the consumer for every key-value pair in the hash-table, without creating an iterator.
+    public void forEach(IntLongConsumer consumer){
+        final int MODIFICATION_COUNT = modificationCount;
+        for (int i = 0; i < capacity; i++) {
+            int key = keyTable[i];
+            if (key != EMPTY_KEY && key != TOMBSTONE_KEY){
+                consumer.accept(key, valueTable[i]);
+                if (MODIFICATION_COUNT != modificationCount) throw new java.util.ConcurrentModificationException();
+            }
+        }
+    }
+    // Returns an array of keys found in the hash-table
+    public int[] keys(){
+        int[] keys = new int[keyCount];
+        for (int i = 0, k = 0; i < capacity; i++) {
+            if (keyTable[i] != EMPTY_KEY && keyTable[i] != TOMBSTONE_KEY) keys[k++] = keyTable[i];
+        }
+        return keys;
+    }
+    // Returns the values found in the hash-table
+    public long[] values(){
+        long[] values = new long[keyCount];
+        for (int i = 0, k = 0; i < capacity; i++) {
+            if (keyTable[i] != EMPTY_KEY && keyTable[i] != TOMBSTONE_KEY) values[k++] = valueTable[i];
+        }
+        return values;
+    }
+    // Rebuild the hash-table without its tombstones. The size only doubles when the live keys need the room, a
+    // table whose used cells are mostly tombstones is rebuilt at the same capacity, so insert/remove churn with
+    // a steady number of keys can't grow it.
+    private void resizeTable(){
+        if(keyCount >= threshold / 2) capacity *= 2;
+        threshold = (int) (capacity*loadFactor);
+
+        int[] oldKeyTable = keyTable;
+        long[] oldValueTable = valueTable;
+        keyTable = new int[capacity];
+        valueTable = new long[capacity];
+        Arrays.fill(keyTable, EMPTY_KEY);
+
+        // Reset the keyCount and usedBucket count since we are going to re-insert all the keys again.
+        keyCount = usedBuckets = 0;
+        for (int i = 0; i < oldKeyTable.length; i++) {
+            if(oldKeyTable[i] != EMPTY_KEY && oldKeyTable[i] != TOMBSTONE_KEY){
+                insert(oldKeyTable[i],oldValueTable[i]);
+            }
+        }
+    }
+
+    // Return a String view of this hash-table.
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        for (int i = 0; i < capacity; i++)
+            if (keyTable[i] != EMPTY_KEY && keyTable[i] != TOMBSTONE_KEY) sb.append(keyTable[i] + " => " + valueTable[i] + ", ");
+        sb.append("}");
+
+        return sb.toString();
+    }
+}
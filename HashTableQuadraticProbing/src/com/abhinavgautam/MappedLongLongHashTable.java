@@ -0,0 +1,354 @@
+package com.abhinavgautam;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+// Persistent long -> long hash-table living in a memory mapped file, outside of the Java heap. It uses the same
+// quadratic probing function and tombstone logic as HashTableQuadraticProbing. Reopening an existing file only
+// maps it, nothing is read or deserialized up front, so a table of any size is available immediately.
+//
+// File layout:
+//   [0, 4096)             two 64 byte header slots, see writeHeader()
+//   [4096, +capacity)     one control byte per cell: EMPTY, USED or DELETED
+//   [dataOffset, ...)     16 bytes per cell: key followed by value
+//
+// The header is crash consistent: the two slots are written alternately, each carries a sequence number and
+// a CRC, and opening picks the newest valid one. The header is marked dirty while the table is open; when a
+// file that wasn't closed cleanly is reopened the counts are rebuilt from the control bytes. Writes between
+// two sync() calls are not atomic with respect to a crash.
+public class MappedLongLongHashTable implements Closeable {
+
+    // Callback used by forEach, receives every key-value pair without boxing.
+    public interface LongLongConsumer {
+        void accept(long key, long value);
+    }
+
+    private static final long MAGIC = 0x4C4C48545150524FL;
+    private static final int HEADER_SIZE = 4096, HEADER_SLOT_SIZE = 64, HEADER_CHECKED_BYTES = 52;
+    private static final byte EMPTY = 0, USED = 1, DELETED = 2;
+    private static final int CELL_SIZE = 16;
+    private static final long PAGE_SIZE = 4096;
+    // Files are mapped in chunks since a single MappedByteBuffer can't exceed 2GB
+    private static final int CHUNK_SHIFT = 30;
+    private static final long CHUNK_SIZE = 1L << CHUNK_SHIFT;
+
+    private static final long DEFAULT_CAPACITY = 1024;
+    private static final double DEFAULT_LOAD_FACTOR = 0.5;
+
+    // A file region mapped as a sequence of chunks. The chunk size is a multiple of the cell size so no cell straddles two chunks.
+    private static class Region {
+        final MappedByteBuffer[] chunks;
+
+        Region(FileChannel channel, long offset, long size) throws IOException {
+            chunks = new MappedByteBuffer[(int) ((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT)];
+            for (int i = 0; i < chunks.length; i++) {
+                long start = (long) i << CHUNK_SHIFT;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset + start, Math.min(CHUNK_SIZE, size - start));
+                chunks[i].order(ByteOrder.nativeOrder());
+            }
+        }
+        byte getByte(long position){
+            return chunks[(int) (position >>> CHUNK_SHIFT)].get((int) (position & (CHUNK_SIZE - 1)));
+        }
+        void putByte(long position, byte value){
+            chunks[(int) (position >>> CHUNK_SHIFT)].put((int) (position & (CHUNK_SIZE - 1)), value);
+        }
+        long getLong(long position){
+            return chunks[(int) (position >>> CHUNK_SHIFT)].getLong((int) (position & (CHUNK_SIZE - 1)));
+        }
+        void putLong(long position, long value){
+            chunks[(int) (position >>> CHUNK_SHIFT)].putLong((int) (position & (CHUNK_SIZE - 1)), value);
+        }
+        void force(){
+            for (MappedByteBuffer chunk : chunks) chunk.force();
+        }
+    }
+
+    private final Path path;
+    private FileChannel channel;
+    private MappedByteBuffer header;
+    private Region control, data;
+
+    private double loadFactor;
+    private long capacity, threshold;
+    // usedBuckets counts the cells in use including cells marked as deleted, keyCount the unique keys
+    private long usedBuckets = 0, keyCount = 0;
+    // Sequence number of the newest header slot
+    private long headerSeq = 0;
+
+    // Opens the table stored in the given file, creating an empty one if the file doesn't exist
+    public MappedLongLongHashTable(Path path) throws IOException {
+        this(path, DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+    // Designated Constructor. capacity and loadFactor are only used when a new file has to be created.
+    public MappedLongLongHashTable(Path path, long capacity, double loadFactor) throws IOException {
+        if(capacity <= 0)
+            throw new IllegalArgumentException("Illegal Capacity");
+        if(loadFactor <= 0 || loadFactor >= 1 || Double.isNaN(loadFactor))
+            throw new IllegalArgumentException("Illegal Load Factor");
+        this.path = path;
+        if(Files.exists(path) && Files.size(path) > 0){
+            open();
+        }else{
+            create(path, Math.max(DEFAULT_CAPACITY, Long.highestOneBit(capacity - 1) << 1), loadFactor);
+        }
+    }
+
+    // Maps an existing file, O(1) unless the previous owner crashed
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.order(ByteOrder.nativeOrder());
+
+        int slot = newestValidHeaderSlot();
+        if(slot == -1) throw new IOException("No valid header in " + path);
+        int base = slot * HEADER_SLOT_SIZE;
+        headerSeq = header.getLong(base + 8);
+        capacity = header.getLong(base + 16);
+        keyCount = header.getLong(base + 24);
+        usedBuckets = header.getLong(base + 32);
+        loadFactor = header.getDouble(base + 40);
+        boolean clean = header.getInt(base + 48) == 1;
+        threshold = (long) (capacity * loadFactor);
+        mapCells();
+
+        // The counts of a file that wasn't closed cleanly can't be trusted
+        if(!clean) recount();
+        writeHeader(false);
+    }
+
+    // Creates a new file holding an empty table
+    private void create(Path file, long capacity, double loadFactor) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.order(ByteOrder.nativeOrder());
+        this.capacity = capacity;
+        this.loadFactor = loadFactor;
+        threshold = (long) (capacity * loadFactor);
+        keyCount = usedBuckets = headerSeq = 0;
+        // Mapping past the end grows the file, the new bytes read as zero which is EMPTY for every cell
+        mapCells();
+        writeHeader(false);
+    }
+
+    private void mapCells() throws IOException {
+        control = new Region(channel, HEADER_SIZE, capacity);
+        data = new Region(channel, dataOffset(capacity), capacity * CELL_SIZE);
+    }
+
+    // The cells start on a page boundary after the control bytes
+    private static long dataOffset(long capacity){
+        return (HEADER_SIZE + capacity + PAGE_SIZE - 1) & -PAGE_SIZE;
+    }
+
+    // Returns the header slot with a valid checksum and the highest sequence number, -1 if neither is valid
+    private int newestValidHeaderSlot(){
+        int best = -1;
+        for (int slot = 0; slot < 2; slot++) {
+            int base = slot * HEADER_SLOT_SIZE;
+            if(header.getLong(base) != MAGIC || header.getInt(base + HEADER_CHECKED_BYTES) != checksum(base)) continue;
+            if(best == -1 || header.getLong(base + 8) > header.getLong(best * HEADER_SLOT_SIZE + 8)) best = slot;
+        }
+        return best;
+    }
+
+    // Writes the counts into the older header slot and flushes it. The other slot stays intact until the
+    // write is complete, so a crash at any point leaves at least one valid header.
+    //   0 magic, 8 sequence number, 16 capacity, 24 keyCount, 32 usedBuckets, 40 loadFactor, 48 clean flag, 52 crc
+    private void writeHeader(boolean clean){
+        headerSeq++;
+        int base = (int) (headerSeq & 1) * HEADER_SLOT_SIZE;
+        header.putLong(base, MAGIC);
+        header.putLong(base + 8, headerSeq);
+        header.putLong(base + 16, capacity);
+        header.putLong(base + 24, keyCount);
+        header.putLong(base + 32, usedBuckets);
+        header.putDouble(base + 40, loadFactor);
+        header.putInt(base + 48, clean ? 1 : 0);
+        header.putInt(base + HEADER_CHECKED_BYTES, checksum(base));
+        header.force();
+    }
+
+    private int checksum(int base){
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < HEADER_CHECKED_BYTES; i++) crc.update(header.get(base + i));
+        return (int) crc.getValue();
+    }
+
+    // Rebuilds keyCount and usedBuckets from the control bytes
+    private void recount(){
+        keyCount = usedBuckets = 0;
+        for (long i = 0; i < capacity; i++) {
+            byte state = control.getByte(i);
+            if(state != EMPTY) usedBuckets++;
+            if(state == USED) keyCount++;
+        }
+    }
+
+    // Quadratic Probing function
+    private static long P(long x){
+        return (x*x+x) >> 1;
+    }
+    // Fibonacci hashing, spreads sequential and strided keys before the low bits are masked off
+    private static long hash(long key){
+        long h = key * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+    // Capacity is a power of two so a mask places the hash value in the domain [0,capacity)
+    private long normalizeIndex(long keyHash){
+        return keyHash & (capacity - 1);
+    }
+    private long keyAt(long i){
+        return data.getLong(i * CELL_SIZE);
+    }
+    private long valueAt(long i){
+        return data.getLong(i * CELL_SIZE + 8);
+    }
+    // Stores the cell contents before flagging the cell as used
+    private void store(long i, long key, long value){
+        data.putLong(i * CELL_SIZE, key);
+        data.putLong(i * CELL_SIZE + 8, value);
+        control.putByte(i, USED);
+    }
+
+    // Returns the number of keys currently inside the hash-table.
+    public long size(){return keyCount;}
+    // Returns true/false depending on whether hash-table is empty.
+    public boolean isEmpty(){return keyCount==0;}
+    // Clears all the contents in the hash-table
+    public void clear(){
+        for (long i = 0; i < capacity; i++) control.putByte(i, EMPTY);
+        keyCount = usedBuckets = 0;
+    }
+    // Places a key-value pair into the hash-table.
+    // If key already exists in the hash-table then value is updated and the old value is returned, otherwise 0.
+    public long insert(long key, long value){
+        if(usedBuckets >= threshold) resizeTable();
+
+        final long hash = normalizeIndex(hash(key));
+        // i -> HT index, j -> Tombstone index, x -> Probing function offset
+        long i = hash, j = -1, x = 1;
+        do {
+            byte state = control.getByte(i);
+            // The current slot was previously deleted
+            if(state == DELETED){
+                if(j == -1) j = i;
+            // The key we are trying to insert already exists so update its value.
+            }else if(state == USED){
+                if(keyAt(i) == key){
+                    long oldValue = valueAt(i);
+                    data.putLong(i * CELL_SIZE + 8, value);
+                    return oldValue;
+                }
+            // Current cell is empty so an insertion can occur, reusing the first tombstone we saw.
+            }else{
+                if(j == -1){
+                    usedBuckets++;
+                    store(i, key, value);
+                }else{
+                    store(j, key, value);
+                }
+                keyCount++;
+                return 0;
+            }
+            i = normalizeIndex(hash + P(x++));
+        }while (true);
+    }
+    // Returns true/false on whether the given key exists in the hash-table.
+    public boolean hasKey(long key){
+        return indexOf(key) != -1;
+    }
+    // Get the value associated with the input key, returns 0 if the key doesn't exist.
+    public long get(long key){
+        return getOrDefault(key, 0L);
+    }
+    // Get the value associated with the input key, returns defaultValue if the key doesn't exist.
+    public long getOrDefault(long key, long defaultValue){
+        long i = indexOf(key);
+        return i == -1 ? defaultValue : valueAt(i);
+    }
+    // Finds the cell holding the key, -1 if the key doesn't exist.
+    private long indexOf(long key){
+        final long hash = normalizeIndex(hash(key));
+        for (long i = hash, x = 1; ; i = normalizeIndex(hash + P(x++))) {
+            byte state = control.getByte(i);
+            if(state == EMPTY) return -1;
+            if(state == USED && keyAt(i) == key) return i;
+        }
+    }
+    // Removes a key from the hash-table and returns the value, 0 if the key doesn't exist.
+    public long remove(long key){
+        long i = indexOf(key);
+        if(i == -1) return 0;
+        control.putByte(i, DELETED);
+        keyCount--;
+        return valueAt(i);
+    }
+    // Calls the consumer for every key-value pair in the hash-table
+    public void forEach(LongLongConsumer consumer){
+        for (long i = 0; i < capacity; i++) {
+            if(control.getByte(i) == USED) consumer.accept(keyAt(i), valueAt(i));
+        }
+    }
+    // Flushes the cells to disk, then records the counts in the header
+    public void sync(){
+        control.force();
+        data.force();
+        writeHeader(false);
+    }
+    // Flushes everything and marks the file as cleanly closed, so the next open skips the recount
+    @Override
+    public void close() throws IOException {
+        control.force();
+        data.force();
+        writeHeader(true);
+        channel.close();
+    }
+    // Rebuild the hash-table without its tombstones, doubling it only when the live keys need the room, so
+    // insert/remove churn with a steady number of keys doesn't grow the file. The new table is built in a
+    // sibling file and then atomically moved over the old one, a crash during the resize leaves the old file
+    // untouched.
+    private void resizeTable(){
+        try{
+            rebuild();
+        }catch (IOException e){
+            throw new UncheckedIOException("Resizing " + path + " failed", e);
+        }
+    }
+    private void rebuild() throws IOException {
+        Path resized = path.resolveSibling(path.getFileName() + ".resize");
+        long oldCapacity = capacity;
+        Region oldControl = control, oldData = data;
+        FileChannel oldChannel = channel;
+
+        create(resized, keyCount >= threshold / 2 ? capacity * 2 : capacity, loadFactor);
+        for (long i = 0; i < oldCapacity; i++) {
+            if(oldControl.getByte(i) == USED) insert(oldData.getLong(i * CELL_SIZE), oldData.getLong(i * CELL_SIZE + 8));
+        }
+        control.force();
+        data.force();
+        writeHeader(false);
+        oldChannel.close();
+        Files.move(resized, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // Return a String view of this hash-table.
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        forEach((key, value) -> sb.append(key + " => " + value + ", "));
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,272 @@
+package com.abhinavgautam;
+
+import java.util.*;
+
+// Open addressing hash-table with the same API as HashTableQuadraticProbing, built on linear probing with
+// Robin Hood displacement: an inserted key takes the cell of any key that sits closer to its home cell, which
+// keeps the probe lengths of all keys close to the average. Deletion shifts the following cluster back by one
+// cell instead of leaving a tombstone, so lookups never walk over deleted cells.
+@SuppressWarnings("unchecked")
+public class RobinHoodHashTable<K,V> implements Iterable<K> {
+    private double loadFactor;
+    private int capacity, threshold, modificationCount = 0;
+
+    // keyCount tracks the total number of unique keys inside the hash table
+    private int keyCount = 0;
+
+    // The spread hash of the key in each cell, with the top bit set so that 0 marks an empty cell
+    private int [] hashTable;
+    // These arrays store the key value pairs
+    private K [] keyTable;
+    private V [] valueTable;
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int OCCUPIED = 0x80000000;
+
+    // Constructors
+    public RobinHoodHashTable(){
+        this(DEFAULT_CAPACITY,DEFAULT_LOAD_FACTOR);
+    }
+    public RobinHoodHashTable(int capacity){
+        this(capacity,DEFAULT_LOAD_FACTOR);
+    }
+    // Designated Constructor
+    public RobinHoodHashTable(int capacity, double loadFactor){
+        if(capacity <= 0)
+            throw new IllegalArgumentException("Illegal Capacity");
+        if(loadFactor <= 0 || loadFactor >= 1 || Double.isNaN(loadFactor))
+            throw new IllegalArgumentException("Illegal Load Factor");
+        this.loadFactor = loadFactor;
+        this.capacity = Math.max(DEFAULT_CAPACITY, next2power(capacity - 1));
+        threshold = (int) (this.capacity*this.loadFactor);
+
+        hashTable = new int[this.capacity];
+        keyTable = (K[]) new Object[this.capacity];
+        valueTable = (V[]) new Object[this.capacity];
+    }
+    // Given a number this method finds the next power of two above this value.
+    private static int next2power(int n){
+        return Integer.highestOneBit(Math.max(n, 1)) << 1;
+    }
+    // Fibonacci hashing, spreads weak hashCode()s before the low bits are masked off. Never returns 0.
+    private static int hash(Object key){
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) | OCCUPIED;
+    }
+    // The cell a hash would occupy in an empty table
+    private int homeIndex(int hash){
+        return hash & (capacity - 1);
+    }
+    // How many cells the key stored at index i sits past its home cell
+    private int distance(int i){
+        return (i - homeIndex(hashTable[i])) & (capacity - 1);
+    }
+    // Clears all the contents in the hash-table
+    public void clear(){
+        Arrays.fill(hashTable, 0);
+        Arrays.fill(keyTable, null);
+        Arrays.fill(valueTable, null);
+        keyCount = 0;
+        modificationCount++;
+    }
+    // Returns the number of keys currently inside the hash-table.
+    public int size(){return keyCount;}
+    // Returns true/false depending on whether hash-table is empty.
+    public boolean isEmpty(){return keyCount==0;}
+    // Places a key-value pair into the hash-table.
+    // If key already exists in the hash-table then value is updated.
+    public V insert(K key, V value){
+        if(key == null) throw new IllegalArgumentException("Null Key");
+        if(keyCount >= threshold) resizeTable();
+
+        int hash = hash(key);
+        int i = homeIndex(hash);
+        // Look for the key. A cell whose key is closer to home than we are ends the search, the key would have
+        // displaced it had it been inserted.
+        for (int dist = 0; ; dist++, i = (i + 1) & (capacity - 1)) {
+            if(hashTable[i] == 0 || distance(i) < dist) break;
+            if(hashTable[i] == hash && keyTable[i].equals(key)){
+                V oldValue = valueTable[i];
+                valueTable[i] = value;
+                modificationCount++;
+                return oldValue;
+            }
+        }
+        place(hash, key, value, i);
+        keyCount++;
+        modificationCount++;
+        return null;
+    }
+    // Stores a new key starting at cell i, pushing the keys of richer cells further down the cluster
+    private void place(int hash, K key, V value, int i){
+        int dist = (i - homeIndex(hash)) & (capacity - 1);
+        while (hashTable[i] != 0){
+            int existingDist = distance(i);
+            if(existingDist < dist){
+                int tmpHash = hashTable[i];
+                K tmpKey = keyTable[i];
+                V tmpValue = valueTable[i];
+                hashTable[i] = hash;
+                keyTable[i] = key;
+                valueTable[i] = value;
+                hash = tmpHash;
+                key = tmpKey;
+                value = tmpValue;
+                dist = existingDist;
+            }
+            i = (i + 1) & (capacity - 1);
+            dist++;
+        }
+        hashTable[i] = hash;
+        keyTable[i] = key;
+        valueTable[i] = value;
+    }
+    // Returns true/false on whether the given key exists in the hash-table.
+    public boolean hasKey(K key){
+        return indexOf(key) != -1;
+    }
+    // Get the value associated with the input key.
+    // Returns null if the value is null and also if the value doesn't exists.
+    public V get(K key){
+        int i = indexOf(key);
+        return i == -1 ? null : valueTable[i];
+    }
+    // Finds the cell holding the key, -1 if the key doesn't exist.
+    private int indexOf(K key){
+        if(key == null) throw new IllegalArgumentException("Null key");
+        int hash = hash(key);
+        int i = homeIndex(hash);
+        for (int dist = 0; ; dist++, i = (i + 1) & (capacity - 1)) {
+            if(hashTable[i] == 0 || distance(i) < dist) return -1;
+            if(hashTable[i] == hash && keyTable[i].equals(key)) return i;
+        }
+    }
+    // Removes a key from the hash-table and returns the value.
+    public V remove(K key){
+        int i = indexOf(key);
+        if(i == -1) return null;
+        V oldValue = valueTable[i];
+
+        // Backward shift: move every following key that isn't in its home cell back by one
+        int next = (i + 1) & (capacity - 1);
+        while (hashTable[next] != 0 && distance(next) > 0){
+            hashTable[i] = hashTable[next];
+            keyTable[i] = keyTable[next];
+            valueTable[i] = valueTable[next];
+            i = next;
+            next = (next + 1) & (capacity - 1);
+        }
+        hashTable[i] = 0;
+        keyTable[i] = null;
+        valueTable[i] = null;
+
+        keyCount--;
+        modificationCount++;
+        return oldValue;
+    }
+    // Returns a list of keys found in the hash-table
+    public List<K> keys(){
+        List<K> keys = new ArrayList<>(size());
+        for (int i = 0; i < capacity; i++) {
+            if (hashTable[i] != 0) keys.add(keyTable[i]);
+        }
+        return keys;
+    }
+    // Returns a list of values found in the hash-table
+    public List<V> values(){
+        List<V> values = new ArrayList<>(size());
+        for (int i = 0; i < capacity; i++) {
+            if (hashTable[i] != 0) values.add(valueTable[i]);
+        }
+        return values;
+    }
+    // Returns the longest number of cells a successful lookup inspects
+    public int maxProbeLength(){
+        int max = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (hashTable[i] != 0) max = Math.max(max, distance(i) + 1);
+        }
+        return max;
+    }
+    // Returns the average number of cells a successful lookup inspects
+    public double averageProbeLength(){
+        if (keyCount == 0) return 0;
+        long total = 0;
+        for (int i = 0; i < capacity; i++) {
+            if (hashTable[i] != 0) total += distance(i) + 1;
+        }
+        return (double) total / keyCount;
+    }
+    // Returns the number of keys found with each probe length, histogram[p] counts the keys found after inspecting p cells
+    public int[] probeLengthHistogram(){
+        int[] histogram = new int[maxProbeLength() + 1];
+        for (int i = 0; i < capacity; i++) {
+            if (hashTable[i] != 0) histogram[distance(i) + 1]++;
+        }
+        return histogram;
+    }
+    // Double the size of hash-table
+    private void resizeTable(){
+        int[] oldHashTable = hashTable;
+        K[] oldKeyTable = keyTable;
+        V[] oldValueTable = valueTable;
+
+        capacity *= 2;
+        threshold = (int) (capacity*loadFactor);
+        hashTable = new int[capacity];
+        keyTable = (K[]) new Object[capacity];
+        valueTable = (V[]) new Object[capacity];
+
+        // The keys are all distinct so they can be placed without looking them up first
+        for (int i = 0; i < oldHashTable.length; i++) {
+            if(oldHashTable[i] != 0){
+                place(oldHashTable[i], oldKeyTable[i], oldValueTable[i], homeIndex(oldHashTable[i]));
+            }
+        }
+    }
+
+    // Return a String view of this hash-table.
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        for (int i = 0; i < capacity; i++)
+            if (hashTable[i] != 0) sb.append(keyTable[i] + " => " + valueTable[i] + ", ");
+        sb.append("}");
+
+        return sb.toString();
+    }
+    @Override
+    public Iterator<K> iterator() {
+        // Before the iteration begins record the number of modifications
+        // done to the hash-table. This value should not change as we iterate
+        // otherwise a concurrent modification has occurred :0
+        final int MODIFICATION_COUNT = modificationCount;
+
+        return new Iterator<K>() {
+            int index, keysLeft = keyCount;
+
+            @Override
+            public boolean hasNext() {
+                // The contents of the table have been altered
+                if (MODIFICATION_COUNT != modificationCount) throw new ConcurrentModificationException();
+                return keysLeft != 0;
+            }
+
+            // Find the next element and return it
+            @Override
+            public K next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                while (hashTable[index] == 0) index++;
+                keysLeft--;
+                return keyTable[index++];
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
@@ -0,0 +1,320 @@
+package com.abhinavgautam;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Thread safe separate chaining hash-table. The key space is split into segments, each one a small hash-table
+// with its own lock, so writers only contend when they hit the same segment. Readers never lock: chains are
+// published through volatile fields and a resize builds a new table for its segment before swapping it in.
+// Iteration is weakly consistent, it never throws ConcurrentModificationException and may or may not
+// reflect modifications made while iterating.
+public class ConcurrentHashTableSeparateChaining<K,V> implements Iterable<K> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+    private static final int MAX_SEGMENTS = 1 << 16;
+    // The largest table of a segment, and of all segments together when the capacity is given up front
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // A chain link. The key and hash never change, value and next are volatile so that lock-free readers
+    // always observe a fully constructed node.
+    static final class Node<K,V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K,V> next;
+
+        Node(int hash, K key, V value, Node<K,V> next){
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    // An independently locked hash-table covering 1/segments.length of the hash space.
+    static final class Segment<K,V> extends ReentrantLock {
+        // Swapped (never mutated in size) on resize, volatile so readers pick up the new table
+        volatile AtomicReferenceArray<Node<K,V>> table;
+        // Number of entries in this segment, written under the lock
+        volatile int count;
+        int threshold;
+        final double maxLoadFactor;
+
+        Segment(int capacity, double maxLoadFactor){
+            this.maxLoadFactor = maxLoadFactor;
+            this.table = new AtomicReferenceArray<>(capacity);
+            this.threshold = (int) (capacity * maxLoadFactor);
+        }
+
+        // Lock-free lookup of the node holding key
+        Node<K,V> seek(int hash, K key){
+            AtomicReferenceArray<Node<K,V>> tab = table;
+            for (Node<K,V> node = tab.get(hash & (tab.length() - 1)); node != null; node = node.next) {
+                if(node.hash == hash && node.key.equals(key)) return node;
+            }
+            return null;
+        }
+
+        V insert(int hash, K key, V value){
+            lock();
+            try{
+                AtomicReferenceArray<Node<K,V>> tab = table;
+                int index = hash & (tab.length() - 1);
+                Node<K,V> head = tab.get(index);
+                for (Node<K,V> node = head; node != null; node = node.next) {
+                    if(node.hash == hash && node.key.equals(key)){
+                        V oldValue = node.value;
+                        node.value = value;
+                        return oldValue;
+                    }
+                }
+                // The node is fully built before the table slot publishes it
+                tab.set(index, new Node<>(hash, key, value, head));
+                if(++count > threshold) resizeTable();
+                return null; // Using null to indicate that there was no previous entry.
+            }finally{
+                unlock();
+            }
+        }
+
+        V remove(int hash, K key){
+            lock();
+            try{
+                AtomicReferenceArray<Node<K,V>> tab = table;
+                int index = hash & (tab.length() - 1);
+                Node<K,V> prev = null;
+                for (Node<K,V> node = tab.get(index); node != null; prev = node, node = node.next) {
+                    if(node.hash == hash && node.key.equals(key)){
+                        // Readers already standing on the node still find the rest of the chain through node.next
+                        if(prev == null) tab.set(index, node.next);
+                        else prev.next = node.next;
+                        count--;
+                        return node.value;
+                    }
+                }
+                return null;
+            }finally{
+                unlock();
+            }
+        }
+
+        void clear(){
+            lock();
+            try{
+                table = new AtomicReferenceArray<>(table.length());
+                count = 0;
+            }finally{
+                unlock();
+            }
+        }
+
+        // Doubles this segment only, a segment at MAXIMUM_CAPACITY stops growing and its chains get longer.
+        // Readers keep using the old table until the new one is published, so the old chains must stay intact:
+        // nodes are copied into the new table, except for the trailing run of each chain that lands in the same
+        // new bucket, which can be shared as is.
+        private void resizeTable(){
+            AtomicReferenceArray<Node<K,V>> oldTable = table;
+            if(oldTable.length() >= MAXIMUM_CAPACITY){
+                threshold = Integer.MAX_VALUE;
+                return;
+            }
+            int capacity = oldTable.length() * 2;
+            AtomicReferenceArray<Node<K,V>> newTable = new AtomicReferenceArray<>(capacity);
+            int mask = capacity - 1;
+
+            for (int i = 0; i < oldTable.length(); i++) {
+                Node<K,V> head = oldTable.get(i);
+                if(head == null) continue;
+
+                // Find the last run of nodes which all go to the same new bucket
+                Node<K,V> lastRun = head;
+                int lastIndex = head.hash & mask;
+                for (Node<K,V> node = head.next; node != null; node = node.next) {
+                    int index = node.hash & mask;
+                    if(index != lastIndex){
+                        lastIndex = index;
+                        lastRun = node;
+                    }
+                }
+                newTable.set(lastIndex, lastRun);
+
+                // Copy the nodes in front of the run
+                for (Node<K,V> node = head; node != lastRun; node = node.next) {
+                    int index = node.hash & mask;
+                    newTable.set(index, new Node<>(node.hash, node.key, node.value, newTable.get(index)));
+                }
+            }
+            threshold = (int) (capacity * maxLoadFactor);
+            table = newTable;
+        }
+    }
+
+    private final Segment<K,V>[] segments;
+    // The top bits of the hash select the segment, the bottom bits the bucket inside it
+    private final int segmentShift, segmentMask;
+
+    public ConcurrentHashTableSeparateChaining(){
+        this(DEFAULT_CAPACITY,DEFAULT_LOAD_FACTOR,DEFAULT_CONCURRENCY_LEVEL);
+    }
+    public ConcurrentHashTableSeparateChaining(int capacity){
+        this(capacity,DEFAULT_LOAD_FACTOR,DEFAULT_CONCURRENCY_LEVEL);
+    }
+    // Designated Constructor. concurrencyLevel is the expected number of concurrently writing threads.
+    @SuppressWarnings("unchecked")
+    public ConcurrentHashTableSeparateChaining(int capacity, double maxLoadFactor, int concurrencyLevel){
+        if(capacity<0)
+            throw new IllegalArgumentException("Illegal Capacity");
+        if(maxLoadFactor<=0 || Double.isNaN(maxLoadFactor) || Double.isInfinite(maxLoadFactor))
+            throw new IllegalArgumentException("Illegal maxLoadFactor");
+        if(concurrencyLevel<=0)
+            throw new IllegalArgumentException("Illegal concurrencyLevel");
+
+        int segmentCount = 1, shift = 0;
+        while (segmentCount < Math.min(concurrencyLevel, MAX_SEGMENTS)){
+            segmentCount <<= 1;
+            shift++;
+        }
+        this.segmentShift = 32 - shift;
+        this.segmentMask = segmentCount - 1;
+
+        // Computed in long, a capacity near Integer.MAX_VALUE would overflow the product in int
+        int segmentCapacity = 2;
+        long totalCapacity = Math.min(capacity, MAXIMUM_CAPACITY);
+        while ((long) segmentCapacity * segmentCount < totalCapacity) segmentCapacity <<= 1;
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) segments[i] = new Segment<>(segmentCapacity, maxLoadFactor);
+    }
+
+    // Murmur3 finalizer, both the high bits (segment) and the low bits (bucket) must be well mixed
+    private static int spread(int h){
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private Segment<K,V> segmentFor(int hash){
+        // With a single segment the shift is 32, which Java treats as 0, the mask still yields 0
+        return segments[(hash >>> segmentShift) & segmentMask];
+    }
+
+    // Returns the number of elements inside the hash-table. Only exact while no writer is running.
+    public int size(){
+        long size = 0;
+        for (Segment<K,V> segment : segments) size += segment.count;
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+    // Returns true/false depending on whether hash-table is empty
+    public boolean isEmpty(){
+        for (Segment<K,V> segment : segments) if(segment.count != 0) return false;
+        return true;
+    }
+    // Clears all the contents of the hash-table, one segment at a time
+    public void clear(){
+        for (Segment<K,V> segment : segments) segment.clear();
+    }
+    // Returns true/false depending on whether a key is in the hash-table
+    public boolean hasKey(K key){
+        if(key == null) return false;
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).seek(hash, key) != null;
+    }
+    // Place a value in the hash-table
+    public V insert(K key, V value){
+        if(key == null) throw new IllegalArgumentException("Null Key");
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).insert(hash, key, value);
+    }
+    // Gets a key's value from the map and return the value. Returns null if value is null and also returns null if key doesn't exist.
+    public V get(K key){
+        if(key == null) return null;
+        int hash = spread(key.hashCode());
+        Node<K,V> node = segmentFor(hash).seek(hash, key);
+        return node == null ? null : node.value;
+    }
+    // Removes a key from the hash-table and returns the value. Returns null if the value is null and also returns null if key doesn't exist.
+    public V remove(K key){
+        if(key == null) return null;
+        int hash = spread(key.hashCode());
+        return segmentFor(hash).remove(hash, key);
+    }
+    // Returns the list of keys found within the hash-table.
+    public List<K> keys(){
+        List<K> keys = new ArrayList<>(size());
+        for (K key : this) keys.add(key);
+        return keys;
+    }
+    // Returns the list of values found within the hash-table.
+    public List<V> values(){
+        List<V> values = new ArrayList<>(size());
+        for (Segment<K,V> segment : segments) {
+            AtomicReferenceArray<Node<K,V>> tab = segment.table;
+            for (int i = 0; i < tab.length(); i++)
+                for (Node<K,V> node = tab.get(i); node != null; node = node.next) values.add(node.value);
+        }
+        return values;
+    }
+
+    // Return a weakly consistent iterator over all the keys in this map
+    @Override
+    public java.util.Iterator<K> iterator() {
+        return new java.util.Iterator<K>() {
+            int segmentIndex = 0, bucketIndex = 0;
+            AtomicReferenceArray<Node<K,V>> tab = segments[0].table;
+            Node<K,V> nextNode = advance(null);
+
+            // Returns the node after the given one, moving on to the next bucket or segment when a chain ends
+            private Node<K,V> advance(Node<K,V> node){
+                if(node != null && node.next != null) return node.next;
+                while (true){
+                    while (bucketIndex < tab.length()){
+                        Node<K,V> head = tab.get(bucketIndex++);
+                        if(head != null) return head;
+                    }
+                    if(++segmentIndex == segments.length) return null;
+                    tab = segments[segmentIndex].table;
+                    bucketIndex = 0;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null;
+            }
+
+            @Override
+            public K next() {
+                if(nextNode == null) throw new NoSuchElementException();
+                Node<K,V> node = nextNode;
+                nextNode = advance(node);
+                return node.key;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+    // Returns a string representation of this hash table
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{");
+        for (Segment<K,V> segment : segments) {
+            AtomicReferenceArray<Node<K,V>> tab = segment.table;
+            for (int i = 0; i < tab.length(); i++)
+                for (Node<K,V> node = tab.get(i); node != null; node = node.next)
+                    sb.append(node.key + "=>" + node.value + ", ");
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+}
@@ -2,18 +2,20 @@ package com.abhinavgautam;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
 class Entry<K,V>{
     int hash;
     K key;
     V value;
-    // Constructor
-    public Entry(K key, V value){
+    // The next entry in the same bucket. Entries are chained directly instead of being wrapped in list nodes.
+    Entry<K,V> next;
+    // Constructor, hash is the spread hash of the key
+    Entry(K key, V value, int hash, Entry<K,V> next){
         this.key = key;
         this.value = value;
-        this.hash = key.hashCode();
+        this.hash = hash;
+        this.next = next;
     }
     // We are not overriding the Objects equal method. No casting is required with this method.
     public boolean equals(Entry<K,V> other){
@@ -27,13 +29,245 @@ class Entry<K,V>{
     }
 }
 
+// An entry of a bucket that has been converted into an AVL tree. It stays linked into the bucket's chain
+// (prev makes unlinking O(1)) so iteration and resizing work the same way for both kinds of buckets.
+class TreeEntry<K,V> extends Entry<K,V>{
+    TreeEntry<K,V> left, right, prev;
+    // Height and balance factor, as in AVLTree.Node
+    int height, bf;
+    // Insertion order, used as the last tie-break between keys that can't otherwise be ordered
+    long seq;
+
+    TreeEntry(K key, V value, int hash, long seq){
+        super(key, value, hash, null);
+        this.seq = seq;
+    }
+}
+
+// Bucket marker for a chain that grew past the treeify threshold. Entries are ordered by hash, then by class
+// name and compareTo for Comparable keys, and finally by insertion order, so lookups stay O(log(n)) even when
+// many keys share a bucket or a hash code. The balancing logic is the one from AVLTree.
+class TreeBin<K,V> extends Entry<K,V>{
+    // Root of the AVL tree and head of the chain linking the same entries
+    TreeEntry<K,V> root, first;
+    int count;
+    // The entry that physically leaves the tree during the current remove
+    private TreeEntry<K,V> removeTarget;
+
+    TreeBin(){
+        super(null, null, 0, null);
+    }
+
+    // Links a new entry into both the chain and the tree
+    void add(TreeEntry<K,V> entry){
+        entry.next = first;
+        if(first != null) first.prev = entry;
+        first = entry;
+        root = insert(root, entry);
+        count++;
+    }
+
+    // Unlinks an entry from both the tree and the chain
+    @SuppressWarnings("unchecked")
+    void delete(TreeEntry<K,V> entry){
+        root = remove(root, entry);
+        // Removing a node with two children moves its successor's contents into it, in which case
+        // the successor is the entry that physically leaves the tree and the chain.
+        TreeEntry<K,V> removed = removeTarget;
+        removeTarget = null;
+
+        if(removed.prev != null) removed.prev.next = removed.next;
+        else first = (TreeEntry<K,V>) removed.next;
+        if(removed.next != null) ((TreeEntry<K,V>) removed.next).prev = removed.prev;
+        count--;
+    }
+
+    // Finds the entry holding key, null if it isn't in this bin
+    TreeEntry<K,V> find(int hash, Object key){
+        return find(root, hash, key);
+    }
+
+    private TreeEntry<K,V> find(TreeEntry<K,V> node, int hash, Object key){
+        while (node != null){
+            if(hash != node.hash){
+                node = hash < node.hash ? node.left : node.right;
+            }else if(node.key.equals(key)){
+                return node;
+            }else{
+                int cmp = comparableOrder(key, node.key);
+                if(cmp != 0){
+                    node = cmp < 0 ? node.left : node.right;
+                }else{
+                    // No real order between the keys: ties are ordered by insertion, and a key of another class
+                    // can equal this one while sorting by class name, so it may be on either side
+                    TreeEntry<K,V> found = find(node.right, hash, key);
+                    if(found != null) return found;
+                    node = node.left;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Total order of the entries in the tree
+    private static int compareEntries(TreeEntry<?,?> a, TreeEntry<?,?> b){
+        if(a.hash != b.hash) return a.hash < b.hash ? -1 : 1;
+        int cmp = compareKeys(a.key, b.key);
+        if(cmp != 0) return cmp;
+        return Long.compare(a.seq, b.seq);
+    }
+
+    // The order of two keys as find may rely on it, as in HashMap.TreeNode: compareTo between keys of the same
+    // Comparable class, 0 otherwise. Keys of different classes can still be equal, so the class name order
+    // that compareKeys adds is only good for placing new entries.
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int comparableOrder(Object a, Object b){
+        if(a.getClass() != b.getClass() || !(a instanceof Comparable)) return 0;
+        try{
+            return ((Comparable) a).compareTo(b);
+        }catch (ClassCastException e){
+            // Comparable to some other type only
+            return 0;
+        }
+    }
+
+    // Orders keys with equal hashes for insertion. 0 means the keys can only be told apart with equals.
+    private static int compareKeys(Object a, Object b){
+        Class<?> aClass = a.getClass(), bClass = b.getClass();
+        if(aClass != bClass) return aClass.getName().compareTo(bClass.getName());
+        return comparableOrder(a, b);
+    }
+
+    private TreeEntry<K,V> insert(TreeEntry<K,V> node, TreeEntry<K,V> entry){
+        // Base case
+        if(node == null) return entry;
+
+        if(compareEntries(entry, node) < 0){
+            node.left = insert(node.left, entry);
+        }else{
+            node.right = insert(node.right, entry);
+        }
+        update(node);
+        return balance(node);
+    }
+
+    private TreeEntry<K,V> remove(TreeEntry<K,V> node, TreeEntry<K,V> entry){
+        int cmp = compareEntries(entry, node);
+        if(cmp < 0){
+            node.left = remove(node.left, entry);
+        }else if(cmp > 0){
+            node.right = remove(node.right, entry);
+        // Found the entry we wish to remove
+        }else{
+            if(node.left == null){
+                removeTarget = node;
+                return node.right;
+            }else if(node.right == null){
+                removeTarget = node;
+                return node.left;
+            }else{
+                // Choose to remove from left subtree
+                if(node.left.height > node.right.height){
+                    // Move the contents of the successor into the node, then remove the successor
+                    TreeEntry<K,V> successor = findMax(node.left);
+                    copyInto(successor, node);
+                    node.left = remove(node.left, successor);
+                // Choose to remove from right subtree
+                }else{
+                    TreeEntry<K,V> successor = findMin(node.right);
+                    copyInto(successor, node);
+                    node.right = remove(node.right, successor);
+                }
+            }
+        }
+        update(node);
+        return balance(node);
+    }
+
+    private void copyInto(TreeEntry<K,V> from, TreeEntry<K,V> to){
+        to.hash = from.hash;
+        to.key = from.key;
+        to.value = from.value;
+        to.seq = from.seq;
+    }
+
+    private TreeEntry<K,V> findMin(TreeEntry<K,V> node){
+        while (node.left != null) node = node.left;
+        return node;
+    }
+
+    private TreeEntry<K,V> findMax(TreeEntry<K,V> node){
+        while (node.right != null) node = node.right;
+        return node;
+    }
+
+    // Updates the balance factor and height values
+    private void update(TreeEntry<K,V> node){
+        int leftNodeHeight = node.left == null ? -1 : node.left.height;
+        int rightNodeHeight = node.right == null ? -1 : node.right.height;
+        node.height = 1 + Math.max(leftNodeHeight, rightNodeHeight);
+        node.bf = rightNodeHeight - leftNodeHeight;
+    }
+
+    // Re-balance the tree
+    private TreeEntry<K,V> balance(TreeEntry<K,V> node){
+        // Left heavy subtree
+        if(node.bf == -2){
+            if(node.left.bf <= 0) return rightRotation(node);
+            node.left = leftRotation(node.left);
+            return rightRotation(node);
+        // Right heavy subtree
+        }else if(node.bf == 2){
+            if(node.right.bf >= 0) return leftRotation(node);
+            node.right = rightRotation(node.right);
+            return leftRotation(node);
+        }
+        // Node has a balance factor of -1, 0 or +1. No need to balance
+        return node;
+    }
+
+    private TreeEntry<K,V> rightRotation(TreeEntry<K,V> node){
+        TreeEntry<K,V> newParent = node.left;
+        node.left = newParent.right;
+        newParent.right = node;
+        update(node);
+        update(newParent);
+        return newParent;
+    }
+
+    private TreeEntry<K,V> leftRotation(TreeEntry<K,V> node){
+        TreeEntry<K,V> newParent = node.right;
+        node.right = newParent.left;
+        newParent.left = node;
+        update(node);
+        update(newParent);
+        return newParent;
+    }
+}
+
 public class HashTableSeparateChaining <K,V> implements Iterable<K>{
-    private static final int DEFAULT_CAPACITY = 3;
+    private static final int DEFAULT_CAPACITY = 4;
     private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int DEFAULT_TREEIFY_THRESHOLD = 8;
+    private static final int DEFAULT_MIGRATION_STEP = 8;
+    // Number of keys of a batch whose buckets are loaded together, at most 64 since removeAll keeps a bit per key
+    private static final int BATCH_GROUP = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
 
     private double maxLoadFactor;
     private int capacity,size,threshold = 0;
-    private LinkedList<Entry<K,V>> [] table;
+    // A bucket turns into a tree once its chain is longer than treeifyThreshold, and back into a chain
+    // once it shrinks to untreeifyThreshold
+    private int treeifyThreshold, untreeifyThreshold;
+    // Insertion counter handed out to tree entries
+    private long treeSeq = 0;
+    // Each bucket holds either the head of an entry chain or a TreeBin
+    private Entry<K,V> [] table;
+    // With incremental resizing the previous table stays around after a resize and every insertion or removal
+    // moves migrationStep of its buckets into the new table. Buckets below migrateIndex have been moved.
+    private boolean incrementalResize;
+    private int migrationStep, migrateIndex;
+    private Entry<K,V> [] oldTable;
 
     public HashTableSeparateChaining(){
         this(DEFAULT_CAPACITY,DEFAULT_LOAD_FACTOR);
@@ -41,126 +275,318 @@ public class HashTableSeparateChaining <K,V> implements Iterable<K>{
     public HashTableSeparateChaining(int capacity){
         this(capacity,DEFAULT_LOAD_FACTOR);
     }
-    // Designated Constructor
     public HashTableSeparateChaining(int capacity, double maxLoadFactor){
+        this(capacity,maxLoadFactor,DEFAULT_TREEIFY_THRESHOLD);
+    }
+    public HashTableSeparateChaining(int capacity, double maxLoadFactor, int treeifyThreshold){
+        this(capacity,maxLoadFactor,treeifyThreshold,false);
+    }
+    // Designated Constructor. With incrementalResize the cost of a resize is spread over the following
+    // operations instead of being paid by the insert that crosses the threshold.
+    @SuppressWarnings("unchecked")
+    public HashTableSeparateChaining(int capacity, double maxLoadFactor, int treeifyThreshold, boolean incrementalResize){
         if(capacity<0)
             throw new IllegalArgumentException("Illegal Capacity");
         if(maxLoadFactor<=0 || Double.isNaN(maxLoadFactor) || Double.isInfinite(maxLoadFactor))
             throw new IllegalArgumentException("Illegal maxLoadFactor");
+        if(treeifyThreshold<2)
+            throw new IllegalArgumentException("Illegal treeifyThreshold");
         this.maxLoadFactor = maxLoadFactor;
-        this.capacity = Math.max(DEFAULT_CAPACITY,capacity);
+        // Keep the capacity a power of two so indices can be computed with a mask instead of a division
+        this.capacity = Math.max(DEFAULT_CAPACITY,next2power(capacity - 1));
         this.threshold = (int) (this.capacity*this.maxLoadFactor);
-        this.table = new LinkedList[this.capacity];
+        this.treeifyThreshold = treeifyThreshold;
+        this.untreeifyThreshold = treeifyThreshold/2;
+        this.incrementalResize = incrementalResize;
+        // The old table is emptied within the capacity*maxLoadFactor/2 insertions the new table takes
+        // to reach its own threshold
+        this.migrationStep = Math.max(DEFAULT_MIGRATION_STEP, (int) Math.ceil(1 / maxLoadFactor));
+        this.table = new Entry[this.capacity];
     }
 
     // Returns the number of elements inside the hash-table
     public int size(){return size;}
     // Returns true/false depending on whether hash-table is empty
     public boolean isEmpty(){return size==0;}
-    // Converts a hash value to an index. This strips the negative sign and places the hash value in the domain [0,capacity)
-    private int normalizeIndex(int keyHash){
-        return (keyHash & 0x7FFFFFFF) % capacity;
+    // Given a number this method finds the next power of two above this value.
+    private static int next2power(int n){
+        return Integer.highestOneBit(Math.max(n, 1)) << 1;
+    }
+    // Fibonacci hashing, spreads weak hashCode()s (sequential or strided values) before the low bits are masked off
+    private static int hash(Object key){
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+    // Converts a hash value to an index. Capacity is a power of two so a mask places it in the domain [0,capacity)
+    private static int normalizeIndex(int keyHash, int capacity){
+        return keyHash & (capacity - 1);
+    }
+    // Returns the table holding the bucket of a hash. While an incremental resize is running the buckets of the
+    // old table below migrateIndex have been moved to the new table, the others are still in the old one.
+    private Entry<K,V> [] tableFor(int hash){
+        if(oldTable != null && normalizeIndex(hash, oldTable.length) >= migrateIndex) return oldTable;
+        return table;
+    }
+    // Returns the first entry of a bucket's chain, whether or not the bucket is a tree
+    @SuppressWarnings("unchecked")
+    private static <K,V> Entry<K,V> chainOf(Entry<K,V> bucket){
+        return bucket instanceof TreeBin ? ((TreeBin<K,V>) bucket).first : bucket;
     }
     // Clears all the contents of the hash-table
     public void clear(){
         Arrays.fill(table,null);
+        oldTable = null;
         size = 0;
     }
     // Returns true/false depending on whether a key is in the hash-table
     public boolean hasKey(K key){
-        int bucketIndex = normalizeIndex(key.hashCode());
-        return bucketSeekEntry(bucketIndex, key) != null;
+        if(key == null) return false;
+        int hash = hash(key);
+        return bucketSeekEntry(hash, key) != null;
     }
     // Place a value in the hash-table
     public V insert(K key, V value){
         if(key == null) throw new IllegalArgumentException("Null Key");
-        Entry<K, V> newEntry = new Entry<>(key,value);
-        int bucketIndex = normalizeIndex(newEntry.hash);
-        return bucketInsertEntry(bucketIndex, newEntry);
+        int hash = hash(key);
+        return bucketInsertEntry(hash, key, value);
     }
     // Gets a key's value from the map and return the value. Returns null if value is null and also returns null if key doesn't exist.
     public V get(K key){
         if(key == null) return null;
-        int bucketIndex = normalizeIndex(key.hashCode());
-        Entry<K, V> entry = bucketSeekEntry(bucketIndex,key);
+        int hash = hash(key);
+        Entry<K, V> entry = bucketSeekEntry(hash, key);
         if(entry != null) return entry.value;
         return null;
     }
     // Removes a key from the hash-table and returns the value. Returns null if the value is null and also returns null if key doesn't exist.
     public V remove(K key){
         if(key == null) return null;
-        int bucketIndex = normalizeIndex(key.hashCode());
-        return bucketRemoveEntry(bucketIndex, key);
+        int hash = hash(key);
+        return bucketRemoveEntry(hash, key);
+    }
+    // Places keys[i] => values[i] into the hash-table for every i. The table grows at most once for the whole
+    // batch instead of doubling over and over while it fills up.
+    public void insertAll(K[] keys, V[] values){
+        if(keys.length != values.length) throw new IllegalArgumentException("Illegal Batch");
+        int[] hashes = hashAll(keys);
+        reserve(keys.length);
+        for (int i = 0; i < keys.length; i++) bucketInsertEntry(hashes[i], keys[i], values[i]);
+    }
+    // Stores the value of keys[i] in values[i] for every i, null for the keys that don't exist. The keys are
+    // processed in groups: the buckets of a group are read first, then searched.
+    @SuppressWarnings("unchecked")
+    public void getAll(K[] keys, V[] values){
+        if(keys.length != values.length) throw new IllegalArgumentException("Illegal Batch");
+        int[] hashes = hashAll(keys);
+        Entry<K,V>[] buckets = new Entry[BATCH_GROUP];
+        for (int start = 0; start < keys.length; start += BATCH_GROUP) {
+            int end = Math.min(keys.length, start + BATCH_GROUP);
+            for (int i = start; i < end; i++) {
+                Entry<K,V>[] tab = tableFor(hashes[i]);
+                buckets[i - start] = tab[normalizeIndex(hashes[i], tab.length)];
+            }
+            // Lookups don't modify the table, the buckets loaded above can be searched directly
+            for (int i = start; i < end; i++) {
+                Entry<K,V> entry = seekEntry(buckets[i - start], hashes[i], keys[i]);
+                values[i] = entry == null ? null : entry.value;
+            }
+        }
+    }
+    // Removes all the given keys from the hash-table and returns how many of them were found.
+    public int removeAll(K[] keys){
+        int[] hashes = hashAll(keys);
+        int before = size;
+        for (int start = 0; start < keys.length; start += BATCH_GROUP) {
+            int end = Math.min(keys.length, start + BATCH_GROUP);
+            // Bit i - start is set when the bucket of keys[i] is empty, in whichever table holds it
+            long emptyBuckets = 0;
+            for (int i = start; i < end; i++) {
+                Entry<K,V>[] tab = tableFor(hashes[i]);
+                if(tab[normalizeIndex(hashes[i], tab.length)] == null) emptyBuckets |= 1L << (i - start);
+            }
+            // Removing never fills a bucket, so the key of a bucket that was empty isn't there. A removal that finds
+            // its key advances a running incremental resize by one step, and the steps only move keys whose buckets
+            // still were in the old table, so an empty bucket stays empty wherever its key would be looked up.
+            for (int i = start; i < end; i++) {
+                if((emptyBuckets & 1L << (i - start)) == 0) bucketRemoveEntry(hashes[i], keys[i]);
+            }
+        }
+        return before - size;
+    }
+    // Computes the hashes of a batch, rejecting null keys before anything is modified
+    private static int[] hashAll(Object[] keys){
+        int[] hashes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if(keys[i] == null) throw new IllegalArgumentException("Null Key");
+            hashes[i] = hash(keys[i]);
+        }
+        return hashes;
+    }
+    // Makes room for extra more keys so that none of the following inserts resizes the table. A running
+    // incremental resize is finished first and the table then grows in one step to the size it needs.
+    private void reserve(int extra){
+        if(oldTable != null) migrate(oldTable.length);
+        if((long) size + extra <= threshold) return;
+        int newCapacity = capacity;
+        while (newCapacity * maxLoadFactor < (double) size + extra && newCapacity < MAXIMUM_CAPACITY) newCapacity <<= 1;
+        resizeTable(newCapacity);
+        if(oldTable != null) migrate(oldTable.length);
     }
     // Removes am entry from a given bucket if it exists.
-    private V bucketRemoveEntry(int bucketIndex, K key){
-        Entry<K, V> entry = bucketSeekEntry(bucketIndex, key);
-        if(entry != null){
-            LinkedList<Entry<K, V>> links = table[bucketIndex];
-            links.remove(entry);
+    @SuppressWarnings("unchecked")
+    private V bucketRemoveEntry(int hash, K key){
+        Entry<K,V>[] tab = tableFor(hash);
+        int bucketIndex = normalizeIndex(hash, tab.length);
+        Entry<K,V> bucket = tab[bucketIndex];
+        if(bucket instanceof TreeBin){
+            TreeBin<K,V> bin = (TreeBin<K,V>) bucket;
+            TreeEntry<K,V> entry = bin.find(hash, key);
+            if(entry == null) return null;
+            V oldValue = entry.value;
+            bin.delete(entry);
             --size;
-            return entry.value;
-        }else {
-            return null;
+            if(bin.count <= untreeifyThreshold) untreeify(tab, bucketIndex);
+            if(oldTable != null) migrate(migrationStep);
+            return oldValue;
+        }
+        for (Entry<K,V> prev = null, entry = bucket; entry != null; prev = entry, entry = entry.next) {
+            if(entry.hash == hash && entry.key.equals(key)){
+                if(prev == null) tab[bucketIndex] = entry.next;
+                else prev.next = entry.next;
+                --size;
+                if(oldTable != null) migrate(migrationStep);
+                return entry.value;
+            }
         }
+        return null;
     }
     // Inserts the entry in the given bucket only if the entry does not already exist in the given bucket, but if it does then update the entry value.
-    private V bucketInsertEntry(int bucketIndex, Entry<K,V> entry){
-        LinkedList<Entry<K,V>> bucket = table[bucketIndex];
-        if(bucket == null) table[bucketIndex] = new LinkedList<>();
-
-        Entry<K,V> existentEntry = bucketSeekEntry(bucketIndex,entry.key);
-        if(existentEntry == null){
-            bucket.add(entry);
-            if(++size>threshold) resizeTable();
-            return null; // Using null to indicate that there was no previous entry.
+    @SuppressWarnings("unchecked")
+    private V bucketInsertEntry(int hash, K key, V value){
+        Entry<K,V>[] tab = tableFor(hash);
+        int bucketIndex = normalizeIndex(hash, tab.length);
+        Entry<K,V> bucket = tab[bucketIndex];
+        if(bucket instanceof TreeBin){
+            TreeBin<K,V> bin = (TreeBin<K,V>) bucket;
+            TreeEntry<K,V> existentEntry = bin.find(hash, key);
+            if(existentEntry != null){
+                V oldValue = existentEntry.value;
+                existentEntry.value = value;
+                return oldValue;
+            }
+            bin.add(new TreeEntry<>(key, value, hash, treeSeq++));
         }else{
-            V oldValue = existentEntry.value;
-            existentEntry.value = entry.value;
-            return oldValue;
+            int length = 0;
+            for (Entry<K,V> entry = bucket; entry != null; entry = entry.next, length++) {
+                if(entry.hash == hash && entry.key.equals(key)){
+                    V oldValue = entry.value;
+                    entry.value = value;
+                    return oldValue;
+                }
+            }
+            tab[bucketIndex] = new Entry<>(key, value, hash, bucket);
+            if(length + 1 > treeifyThreshold) treeify(tab, bucketIndex);
         }
+        if(++size>threshold) resizeTable();
+        else if(oldTable != null) migrate(migrationStep);
+        return null; // Using null to indicate that there was no previous entry.
     }
     // Finds and returns a particular entry in the given bucket if it exist, returns null otherwise.
-    private Entry<K,V> bucketSeekEntry(int bucketIndex, K key){
-        if(key == null) return null;
-        LinkedList<Entry<K,V>> bucket = table[bucketIndex];
-        if(bucket == null) return null;
-        for (Entry<K,V> entry : bucket){
-            if(entry.key.equals(key)){
-                return entry;
-            }
+    // The cached hash is compared first so equals only runs on likely matches.
+    private Entry<K,V> bucketSeekEntry(int hash, K key){
+        Entry<K,V>[] tab = tableFor(hash);
+        return seekEntry(tab[normalizeIndex(hash, tab.length)], hash, key);
+    }
+    // Searches a bucket, a chain or a tree, for the entry holding key
+    @SuppressWarnings("unchecked")
+    private static <K,V> Entry<K,V> seekEntry(Entry<K,V> bucket, int hash, K key){
+        if(bucket instanceof TreeBin) return ((TreeBin<K,V>) bucket).find(hash, key);
+        for (Entry<K,V> entry = bucket; entry != null; entry = entry.next) {
+            if(entry.hash == hash && entry.key.equals(key)) return entry;
         }
         return null;
     }
-    // Resize the internal table holding buckets of entries.
+    // Converts the chain in the given bucket into a tree
+    private void treeify(Entry<K,V>[] tab, int bucketIndex){
+        TreeBin<K,V> bin = new TreeBin<>();
+        for (Entry<K,V> entry = tab[bucketIndex]; entry != null; entry = entry.next) {
+            bin.add(new TreeEntry<>(entry.key, entry.value, entry.hash, treeSeq++));
+        }
+        tab[bucketIndex] = bin;
+    }
+    // Converts the tree in the given bucket back into a plain chain
+    @SuppressWarnings("unchecked")
+    private void untreeify(Entry<K,V>[] tab, int bucketIndex){
+        Entry<K,V> head = null;
+        for (Entry<K,V> entry = chainOf(tab[bucketIndex]); entry != null; entry = entry.next) {
+            head = new Entry<>(entry.key, entry.value, entry.hash, head);
+        }
+        tab[bucketIndex] = head;
+    }
+    // Resize the internal table holding buckets of entries. The entries are moved right away, or a few buckets
+    // at a time by the following insertions and removals when the table resizes incrementally.
     private void resizeTable(){
-        capacity *= 2;
+        resizeTable(capacity * 2);
+    }
+    // Moves the entries into a table with newCapacity buckets, a power of two
+    @SuppressWarnings("unchecked")
+    private void resizeTable(int newCapacity){
+        // A resize that is still in progress has to finish before the next one can start
+        if(oldTable != null) migrate(oldTable.length);
+        oldTable = table;
+        migrateIndex = 0;
+
+        capacity = newCapacity;
         threshold = (int) (capacity * maxLoadFactor);
+        table = new Entry[capacity];
 
-        LinkedList<Entry<K,V>> [] newTable = new LinkedList[capacity];
-        for (int i = 0; i < table.length; i++) {
-            if(table[i] != null){
-                for (Entry<K,V> entry : table[i]){
-                    int bucketIndex = normalizeIndex(entry.hash);
-                    LinkedList<Entry<K,V>> bucket = newTable[bucketIndex];
-                    if(bucket == null) newTable[bucketIndex] = bucket = new LinkedList<>();
-                    bucket.add(entry);
-                }
-                // Avoid memory leak. Help the GC
-                table[i].clear();
-                table[i] = null;
+        if(!incrementalResize) migrate(oldTable.length);
+    }
+    // Moves the next buckets buckets of the old table into the current table. Old bucket i splits into the
+    // buckets i, i+oldTable.length, ... which are all still empty since their keys were routed to the old table.
+    private void migrate(int buckets){
+        int end = Math.min(oldTable.length, migrateIndex + buckets);
+        for (; migrateIndex < end; migrateIndex++) {
+            Entry<K,V> bucket = oldTable[migrateIndex];
+            if(bucket == null) continue;
+            for (Entry<K,V> entry = chainOf(bucket); entry != null; ) {
+                Entry<K,V> next = entry.next;
+                int bucketIndex = normalizeIndex(entry.hash, capacity);
+                // Tree entries go back to plain entries, the buckets that are still too long are re-treeified below
+                if(entry instanceof TreeEntry) entry = new Entry<>(entry.key, entry.value, entry.hash, null);
+                entry.next = table[bucketIndex];
+                table[bucketIndex] = entry;
+                entry = next;
+            }
+            // Avoid memory leak. Help the GC
+            oldTable[migrateIndex] = null;
+
+            // Only trees could have left chains that are still too long after the split
+            if(bucket instanceof TreeBin){
+                for (int i = migrateIndex; i < capacity; i += oldTable.length) treeifyIfLong(i);
             }
         }
-        table = newTable;
+        if(migrateIndex == oldTable.length) oldTable = null;
+    }
+    private void treeifyIfLong(int bucketIndex){
+        int length = 0;
+        for (Entry<K,V> entry = table[bucketIndex]; entry != null && length <= treeifyThreshold; entry = entry.next) length++;
+        if(length > treeifyThreshold) treeify(table, bucketIndex);
+    }
+    // Returns a bucket, numbering the buckets of the old table after those of the current one
+    private Entry<K,V> bucketAt(int index){
+        return index < capacity ? table[index] : oldTable[index - capacity];
+    }
+    // Total number of buckets in the current and the old table
+    private int bucketCount(){
+        return oldTable == null ? capacity : capacity + oldTable.length;
     }
     // Returns the list of keys found within the hash-table.
     public List<K> keys(){
         List<K> keys = new ArrayList<>(size());
-        for(LinkedList<Entry<K,V>> bucket : table){
-            if(bucket != null){
-                for (Entry<K,V> entry : bucket){
-                    keys.add(entry.key);
-                }
+        for (int i = 0; i < bucketCount(); i++) {
+            for (Entry<K,V> entry = chainOf(bucketAt(i)); entry != null; entry = entry.next){
+                keys.add(entry.key);
             }
         }
         return keys;
@@ -168,11 +594,9 @@ public class HashTableSeparateChaining <K,V> implements Iterable<K>{
     // Returns the list of values found within the hash-table.
     public List<V> values(){
         List<V> values = new ArrayList<>(size());
-        for(LinkedList<Entry<K,V>> bucket : table){
-            if(bucket != null){
-                for (Entry<K,V> entry : bucket){
-                    values.add(entry.value);
-                }
+        for (int i = 0; i < bucketCount(); i++) {
+            for (Entry<K,V> entry = chainOf(bucketAt(i)); entry != null; entry = entry.next){
+                values.add(entry.value);
             }
         }
         return values;
@@ -185,7 +609,7 @@ public class HashTableSeparateChaining <K,V> implements Iterable<K>{
         return new java.util.Iterator<K>() {
 
             int bucketIndex = 0;
-            java.util.Iterator<Entry<K, V>> bucketIter = (table[0] == null) ? null : table[0].iterator();
+            Entry<K,V> entry = chainOf(table[0]);
 
             @Override
             public boolean hasNext() {
@@ -193,28 +617,17 @@ public class HashTableSeparateChaining <K,V> implements Iterable<K>{
                 // An item was added or removed while iterating
                 if (elementCount != size) throw new java.util.ConcurrentModificationException();
 
-                // No iterator or the current iterator is empty
-                if (bucketIter == null || !bucketIter.hasNext()) {
-
-                    // Search next buckets until a valid iterator is found
-                    while (++bucketIndex < capacity) {
-                        if (table[bucketIndex] != null) {
-
-                            // Make sure this iterator actually has elements -_-
-                            java.util.Iterator<Entry<K, V>> nextIter = table[bucketIndex].iterator();
-                            if (nextIter.hasNext()) {
-                                bucketIter = nextIter;
-                                break;
-                            }
-                        }
-                    }
-                }
-                return bucketIndex < capacity;
+                // Search next buckets until a non empty one is found
+                while (entry == null && ++bucketIndex < bucketCount()) entry = chainOf(bucketAt(bucketIndex));
+                return entry != null;
             }
 
             @Override
             public K next() {
-                return bucketIter.next().key;
+                if (!hasNext()) throw new java.util.NoSuchElementException();
+                K key = entry.key;
+                entry = entry.next;
+                return key;
             }
 
             @Override
@@ -229,9 +642,8 @@ public class HashTableSeparateChaining <K,V> implements Iterable<K>{
 
         StringBuilder sb = new StringBuilder();
         sb.append("{");
-        for (int i = 0; i < capacity; i++) {
-            if (table[i] == null) continue;
-            for (Entry<K, V> entry : table[i]) sb.append(entry + ", ");
+        for (int i = 0; i < bucketCount(); i++) {
+            for (Entry<K,V> entry = chainOf(bucketAt(i)); entry != null; entry = entry.next) sb.append(entry + ", ");
         }
         sb.append("}");
         return sb.toString();
@@ -0,0 +1,106 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Monotone priority queue with integer priorities in a bounded window, IntBucketQueue for arbitrary elements.
+// Every priority that is added has to lie in [current, current + maxSpan], where current is the priority of
+// the last polled element. Only the priorities pick buckets, the elements are never compared.
+@SuppressWarnings("unchecked")
+public class BucketQueue<T> {
+
+    private static final int DEFAULT_BUCKET_CAPACITY = 4;
+    private static final int MAXIMUM_SPAN = (1 << 30) - 1;
+
+    private final Object[][] buckets;
+    private final int[] bucketSizes;
+    private final int mask;
+    private final long maxSpan;
+    private int heapSize = 0;
+    //The priority of the last polled element, the start of the window
+    private long current = 0;
+    //The lowest priority that may still be in the queue, at least current. peek moves it up, poll moves current
+    //up to it, so peeking never narrows the window
+    private long first = 0;
+
+    //Construct an initially empty PQ for priorities at most maxSpan above the last polled one
+    public BucketQueue(int maxSpan){
+        if(maxSpan < 0 || maxSpan > MAXIMUM_SPAN) throw new IllegalArgumentException("Illegal Span:" + maxSpan);
+        this.maxSpan = maxSpan;
+        //A ring of more than maxSpan days, a single one when every priority has to equal current
+        int capacity = Math.max(1, Integer.highestOneBit(maxSpan) << 1);
+        buckets = new Object[capacity][];
+        bucketSizes = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    //Return empty status of PQ
+    public boolean isEmpty(){
+        return heapSize==0;
+    }
+
+    //Return the size of the heap
+    public int size(){
+        return heapSize;
+    }
+
+    //Clears everything inside the heap and allows any priority again, O(maxSpan + n)
+    public void clear(){
+        for (int i = 0; i < buckets.length; i++) {
+            if(bucketSizes[i] > 0) Arrays.fill(buckets[i], 0, bucketSizes[i], null);
+        }
+        Arrays.fill(bucketSizes, 0);
+        heapSize = 0;
+        current = 0;
+        first = 0;
+    }
+
+    //Add an element with a priority in [current, current + maxSpan], O(1)
+    public void add(long priority, T elem){
+        if(elem == null) throw new IllegalArgumentException();
+        if(priority < current || priority - current > maxSpan) {
+            throw new IllegalArgumentException("Illegal Priority:" + priority + " outside [" + current + ", " + (current + maxSpan) + "]");
+        }
+        int bucket = (int) (priority & mask);
+        int n = bucketSizes[bucket];
+        if(buckets[bucket] == null) buckets[bucket] = new Object[DEFAULT_BUCKET_CAPACITY];
+        else if(n == buckets[bucket].length) buckets[bucket] = Arrays.copyOf(buckets[bucket], n * 2);
+        buckets[bucket][n] = elem;
+        bucketSizes[bucket] = n + 1;
+        if(priority < first) first = priority;
+        heapSize++;
+    }
+
+    //Return the lowest priority in this PQ. Only looks, so it doesn't change which priorities may be added
+    public long peekPriority(){
+        if(isEmpty()) throw new NoSuchElementException("Priority Queue Empty");
+        advance();
+        return first;
+    }
+
+    //Return the element with the lowest priority in this PQ, null if it is empty
+    public T peek(){
+        if(isEmpty()) return null;
+        advance();
+        int bucket = (int) (first & mask);
+        return (T) buckets[bucket][bucketSizes[bucket] - 1];
+    }
+
+    //Removes the element with the lowest priority, null if it is empty, O(1) amortized
+    public T poll(){
+        if(isEmpty()) return null;
+        advance();
+        current = first;
+        int bucket = (int) (current & mask);
+        int n = --bucketSizes[bucket];
+        T removed_data = (T) buckets[bucket][n];
+        buckets[bucket][n] = null;
+        heapSize--;
+        return removed_data;
+    }
+
+    //Moves first to the first non-empty bucket, which the window guarantees is at most maxSpan days ahead
+    private void advance(){
+        while (bucketSizes[(int) (first & mask)] == 0) first++;
+    }
+}
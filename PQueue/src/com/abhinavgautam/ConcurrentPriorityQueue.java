@@ -0,0 +1,32 @@
+package com.abhinavgautam;
+
+// A min priority queue that any number of threads can add to and poll from. Two implementations trade
+// ordering for throughput:
+//  - strict(): SkipListPriorityQueue, every poll returns the lowest element present, so all pollers contend
+//    on the front of one list.
+//  - relaxed(threads): MultiQueue, a poll returns one of the lowest elements, close to the minimum on
+//    average, and threads mostly work on different heaps.
+public interface ConcurrentPriorityQueue<T extends Comparable<T>> {
+
+    //Add an element to the PQ
+    void add(T elem);
+
+    //Removes and returns an element with low priority, null if the PQ is empty
+    T poll();
+
+    //Return the number of elements, only a snapshot while other threads are running
+    int size();
+
+    //Return empty status of PQ
+    boolean isEmpty();
+
+    //A PQ whose polls always return the minimum
+    static <T extends Comparable<T>> ConcurrentPriorityQueue<T> strict(){
+        return new SkipListPriorityQueue<>();
+    }
+
+    //A PQ tuned for the given number of threads whose polls return an element near the minimum
+    static <T extends Comparable<T>> ConcurrentPriorityQueue<T> relaxed(int threads){
+        return new MultiQueue<>(threads);
+    }
+}
@@ -0,0 +1,200 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// Min-heap over a plain T[] in which every node has d children instead of two. A wider node makes the heap
+// log(d) times shallower, so a poll walks fewer levels and the d children it compares at each level sit next
+// to each other in the array, usually on one or two cache lines. d = 4 is the usual sweet spot, 2 gives the
+// classic binary layout of PQueue. Sifting moves a hole instead of swapping: displaced elements are shifted
+// into it and the sifted element is written once, where it comes to rest.
+// Unlike PQueue there is no value to index map, so remove(elem) and contains are linear scans.
+@SuppressWarnings("unchecked")
+public class DaryHeap<T extends Comparable<T>> {
+    //Number of elements currently inside the heap
+    private int heapSize = 0;
+
+    //The elements of the heap, the children of node k are d*k+1 to d*k+d
+    private T[] heap;
+
+    //log2 of the degree, children and parents are found with shifts
+    private final int shift;
+
+    private static final int DEFAULT_DEGREE = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_DEGREE = 64;
+
+    //Construct an initially empty 4-ary heap
+    public DaryHeap(){
+        this(DEFAULT_DEGREE, DEFAULT_CAPACITY);
+    }
+
+    //Construct an initially empty heap with the given number of children per node, a power of two
+    public DaryHeap(int degree){
+        this(degree, DEFAULT_CAPACITY);
+    }
+
+    //Designated Constructor
+    public DaryHeap(int degree, int capacity){
+        if(degree < 2 || degree > MAXIMUM_DEGREE || Integer.bitCount(degree) != 1) throw new IllegalArgumentException("Illegal Degree:" + degree);
+        if(capacity < 0) throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        shift = Integer.numberOfTrailingZeros(degree);
+        heap = (T[]) new Comparable[Math.max(1, capacity)];
+    }
+
+    //PQ construction, O(nlog(n))
+    public DaryHeap(int degree, Collection<T> elems){
+        this(degree, elems.size());
+        for (T elem : elems) add(elem);
+    }
+
+    //Return the number of children per node
+    public int degree(){
+        return 1 << shift;
+    }
+
+    //Return empty status of PQ
+    public boolean isEmpty(){
+        return heapSize==0;
+    }
+
+    //Return the size of the heap
+    public int size(){
+        return heapSize;
+    }
+
+    //Clears everything inside the heap, O(n)
+    public void clear(){
+        Arrays.fill(heap, 0, heapSize, null);
+        heapSize = 0;
+    }
+
+    //Return the value of the element with the lowest priority in this PQ
+    public T peek(){
+        if(isEmpty()) return null;
+        return heap[0];
+    }
+
+    //Removes the root of the heap, O(d*log_d(n))
+    public T poll(){
+        if(isEmpty()) return null;
+        return removeAt(0);
+    }
+
+    //Test if element is in the heap, O(n)
+    public boolean contains(T elem){
+        return indexOf(elem) != -1;
+    }
+
+    //Add an element to the PQ, O(log_d(n))
+    public void add(T elem){
+        if(elem == null) throw new IllegalArgumentException();
+        if(heapSize == heap.length) grow();
+        swim(heapSize++, elem);
+    }
+
+    //Remove a particular element in the heap, O(n)
+    public boolean remove(T elem){
+        int index = indexOf(elem);
+        if(index != -1) removeAt(index);
+        return index != -1;
+    }
+
+    private int indexOf(T elem){
+        if(elem == null) return -1;
+        for (int i = 0; i < heapSize; i++) {
+            if(heap[i].equals(elem)) return i;
+        }
+        return -1;
+    }
+
+    //Remove a node at particular index by moving the last element into its hole, O(d*log_d(n))
+    private T removeAt(int i){
+        T removed_data = heap[i];
+        T last = heap[--heapSize];
+        heap[heapSize] = null;
+        if(i == heapSize) return removed_data;
+
+        //Try sinking, if the element didn't move try swimming
+        if(sink(i, last) == i) swim(i, last);
+        return removed_data;
+    }
+
+    //Bottom up swim of elem from hole k, O(log_d(n))
+    private void swim(int k, T elem){
+        while (k > 0){
+            int parent = (k-1) >>> shift;
+            T parentElem = heap[parent];
+            if(parentElem.compareTo(elem) <= 0) break;
+            heap[k] = parentElem;
+            k = parent;
+        }
+        heap[k] = elem;
+    }
+
+    //Top down sink of elem from hole k, moving the smallest child up at every level. Returns where elem ended up.
+    private int sink(int k, T elem){
+        //The last node with children, tested before shifting k so the index of the first child can't overflow
+        int lastParent = (heapSize - 2) >> shift;
+        while (k <= lastParent){
+            int first = (k << shift) + 1;
+            int end = first + Math.min(1 << shift, heapSize - first);
+
+            //Find the smallest of the children
+            int smallest = first;
+            T smallestElem = heap[first];
+            for (int child = first + 1; child < end; child++) {
+                if(heap[child].compareTo(smallestElem) < 0){
+                    smallest = child;
+                    smallestElem = heap[child];
+                }
+            }
+
+            //Stop if we can't sink elem anymore
+            if(elem.compareTo(smallestElem) <= 0) break;
+            heap[k] = smallestElem;
+            k = smallest;
+        }
+        heap[k] = elem;
+        return k;
+    }
+
+    private void grow(){
+        if(heap.length == Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Required array size too large");
+        heap = Arrays.copyOf(heap, (int) Math.min(Integer.MAX_VALUE - 8, 2L * heap.length));
+    }
+
+    //Counts the elements strictly less than elem, O(d*m) for m such elements: a node that isn't less than elem
+    //can't have a smaller descendant, so its whole subtree is skipped. Used to measure the rank error of relaxed
+    //queues built from several heaps.
+    int countLess(T elem){
+        if(heapSize == 0 || heap[0].compareTo(elem) >= 0) return 0;
+        int count = 0;
+        int[] stack = new int[64];
+        int top = 0;
+        stack[top++] = 0;
+        int lastParent = (heapSize - 2) >> shift;
+        while (top > 0){
+            int k = stack[--top];
+            count++;
+            if(k > lastParent) continue;
+            int first = (k << shift) + 1;
+            int end = first + Math.min(1 << shift, heapSize - first);
+            for (int child = first; child < end; child++) {
+                if(heap[child].compareTo(elem) < 0){
+                    if(top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+                    stack[top++] = child;
+                }
+            }
+        }
+        return count;
+    }
+
+    //Checks if this heap is a min heap
+    public boolean isMinHeap(){
+        for (int i = 1; i < heapSize; i++) {
+            if(heap[(i-1) >>> shift].compareTo(heap[i]) > 0) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,215 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Indexed binary min-heap. The caller names every element with an integer key in [0, maxSize), e.g. a node id
+// in Dijkstra or A*, and changes or removes elements through that key. Instead of PQueue's value to index map
+// the heap keeps two flat arrays: position[key] is the heap slot of a key and inverse[slot] the key stored in a
+// slot, so finding an element is one array read and no operation allocates. The values are stored in heap
+// order next to inverse, so sifting compares neighbouring array cells rather than following keys.
+@SuppressWarnings("unchecked")
+public class IndexedPQueue<T extends Comparable<T>> {
+    //Number of elements currently inside the heap
+    private int heapSize = 0;
+
+    //The largest number of keys the heap can hold, keys range over [0, maxSize)
+    private final int maxSize;
+
+    //position[key] is the heap slot holding the key, -1 if the key isn't in the heap
+    private final int[] position;
+
+    //inverse[slot] is the key held in a heap slot
+    private final int[] inverse;
+
+    //heap[slot] is the value of the key held in a heap slot
+    private final T[] heap;
+
+    //Construct an empty PQ for the keys 0 to maxSize-1
+    public IndexedPQueue(int maxSize){
+        if(maxSize <= 0) throw new IllegalArgumentException("Illegal Capacity:" + maxSize);
+        this.maxSize = maxSize;
+        position = new int[maxSize];
+        inverse = new int[maxSize];
+        heap = (T[]) new Comparable[maxSize];
+        Arrays.fill(position, -1);
+    }
+
+    //Return empty status of PQ
+    public boolean isEmpty(){
+        return heapSize==0;
+    }
+
+    //Return the size of the heap
+    public int size(){
+        return heapSize;
+    }
+
+    //Clears everything inside the heap, O(n)
+    public void clear(){
+        for (int i = 0; i < heapSize; i++) {
+            position[inverse[i]] = -1;
+            heap[i] = null;
+        }
+        heapSize = 0;
+    }
+
+    //Test if the key is in the heap, O(1)
+    public boolean contains(int key){
+        checkKey(key);
+        return position[key] != -1;
+    }
+
+    //Return the value of the key, O(1)
+    public T valueOf(int key){
+        checkContains(key);
+        return heap[position[key]];
+    }
+
+    //Add a key with its value to the PQ, O(log(n))
+    public void insert(int key, T value){
+        checkKey(key);
+        if(position[key] != -1) throw new IllegalArgumentException("Key Already Exists:" + key);
+        if(value == null) throw new IllegalArgumentException("Null Value");
+        swim(heapSize++, key, value);
+    }
+
+    //Return the key with the lowest value
+    public int peekMinKey(){
+        if(isEmpty()) throw new NoSuchElementException("Priority Queue Empty");
+        return inverse[0];
+    }
+
+    //Return the lowest value in this PQ, null if it is empty
+    public T peekMinValue(){
+        if(isEmpty()) return null;
+        return heap[0];
+    }
+
+    //Removes the root of the heap and returns its key, O(log(n))
+    public int pollMinKey(){
+        int key = peekMinKey();
+        remove(key);
+        return key;
+    }
+
+    //Removes the root of the heap and returns its value, null if it is empty, O(log(n))
+    public T pollMinValue(){
+        if(isEmpty()) return null;
+        return remove(inverse[0]);
+    }
+
+    //Remove the key from the heap and return its value, O(log(n))
+    public T remove(int key){
+        checkContains(key);
+        int slot = position[key];
+        T removed_data = heap[slot];
+        int last = inverse[--heapSize];
+        T lastValue = heap[heapSize];
+        position[key] = -1;
+        heap[heapSize] = null;
+
+        //Move the last key into the freed slot and restore the heap around it
+        if(slot != heapSize){
+            sink(slot, last, lastValue);
+            if(position[last] == slot) swim(slot, last, lastValue);
+        }
+        return removed_data;
+    }
+
+    //Lower the value of the key, returns false and changes nothing if the value isn't lower, O(log(n))
+    public boolean decreaseKey(int key, T value){
+        checkContains(key);
+        if(value == null) throw new IllegalArgumentException("Null Value");
+        if(value.compareTo(heap[position[key]]) >= 0) return false;
+        swim(position[key], key, value);
+        return true;
+    }
+
+    //Raise the value of the key, returns false and changes nothing if the value isn't higher, O(log(n))
+    public boolean increaseKey(int key, T value){
+        checkContains(key);
+        if(value == null) throw new IllegalArgumentException("Null Value");
+        if(value.compareTo(heap[position[key]]) <= 0) return false;
+        sink(position[key], key, value);
+        return true;
+    }
+
+    //Set the value of the key whichever way it moves and return the old value, O(log(n))
+    public T update(int key, T value){
+        checkContains(key);
+        if(value == null) throw new IllegalArgumentException("Null Value");
+        int slot = position[key];
+        T oldValue = heap[slot];
+        sink(slot, key, value);
+        if(position[key] == slot) swim(slot, key, value);
+        return oldValue;
+    }
+
+    //Bottom up swim of the key from slot k, O(log(n)). The slot is treated as a hole: parents that are larger
+    //move down into it and the key is written once where it stops, instead of swapping at every level.
+    private void swim(int k, int key, T value){
+        while (k > 0){
+            int parent = (k-1)/2;
+            if(heap[parent].compareTo(value) <= 0) break;
+            place(k, inverse[parent], heap[parent]);
+            k = parent;
+        }
+        place(k, key, value);
+    }
+
+    //Top down sink of the key from slot k, O(log(n)), filling the hole with the smaller child at every level
+    private void sink(int k, int key, T value){
+        while (true){
+            int left = 2*k+1; //Left Node
+            if(left >= heapSize) break;
+            int right = left+1; //Right Node
+            int smallest = left; //Assume left is the smallest node of the two children
+
+            //Find which is smaller left or right
+            if(right < heapSize && heap[right].compareTo(heap[left]) < 0){
+                smallest = right;
+            }
+
+            //Stop if we can't sink the key anymore
+            if(value.compareTo(heap[smallest]) <= 0) break;
+
+            //Move the smaller child up into the hole
+            place(k, inverse[smallest], heap[smallest]);
+            k = smallest;
+        }
+        place(k, key, value);
+    }
+
+    //Store the key and its value in a heap slot, O(1)
+    private void place(int slot, int key, T value){
+        inverse[slot] = key;
+        heap[slot] = value;
+        position[key] = slot;
+    }
+
+    private void checkKey(int key){
+        if(key < 0 || key >= maxSize) throw new IllegalArgumentException("Illegal Key:" + key);
+    }
+
+    private void checkContains(int key){
+        checkKey(key);
+        if(position[key] == -1) throw new NoSuchElementException("Key Does Not Exist:" + key);
+    }
+
+    //Recursively checks if this heap is a min heap
+    public boolean isMinHeap(int k){
+        //If we are outside the bounds of the heap return true
+        if(k>=heapSize)return true;
+
+        int left = 2*k+1; //Left Node
+        int right = 2*k+2; //Right Node
+
+        // Make sure that the current node k less than both of its children left and right if they exist
+        if(left<heapSize && heap[k].compareTo(heap[left]) > 0) return false;
+        if(right<heapSize && heap[k].compareTo(heap[right]) > 0) return false;
+
+        //Recurse on both children to make sure they're also valid heaps
+        return isMinHeap(left) && isMinHeap(right);
+    }
+}
@@ -0,0 +1,123 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Monotone priority queue of int elements with non-negative long priorities, the radix heap of Ahuja, Mehlhorn,
+// Orlin and Tarjan. Once an element was polled no element with a lower priority may be added, which holds for
+// Dijkstra's algorithm and for event simulation. Bucket i holds the elements whose priority first differs from
+// the last polled priority in bit i-1, bucket 0 the ones equal to it. A poll that finds bucket 0 empty takes
+// the first non-empty bucket and redistributes it around its minimum, every element only ever moves to lower
+// buckets, so add is O(1) and poll O(log C) amortized. Priorities are only ever compared as longs.
+public class IntRadixHeap {
+
+    private static final int BUCKETS = 65;
+    private static final int DEFAULT_BUCKET_CAPACITY = 4;
+
+    private final long[][] priorities = new long[BUCKETS][];
+    private final int[][] elements = new int[BUCKETS][];
+    private final int[] bucketSizes = new int[BUCKETS];
+    private int heapSize = 0;
+    //The priority of the last polled element, no lower priority may be added
+    private long last = 0;
+
+    //Construct an initially empty PQ
+    public IntRadixHeap(){
+        for (int i = 0; i < BUCKETS; i++) {
+            priorities[i] = new long[DEFAULT_BUCKET_CAPACITY];
+            elements[i] = new int[DEFAULT_BUCKET_CAPACITY];
+        }
+    }
+
+    //Return empty status of PQ
+    public boolean isEmpty(){
+        return heapSize==0;
+    }
+
+    //Return the size of the heap
+    public int size(){
+        return heapSize;
+    }
+
+    //Clears everything inside the heap and allows any priority again, O(1)
+    public void clear(){
+        Arrays.fill(bucketSizes, 0);
+        heapSize = 0;
+        last = 0;
+    }
+
+    //Add an element with a priority no lower than the last polled one, O(1)
+    public void add(long priority, int elem){
+        if(priority < last) throw new IllegalArgumentException("Illegal Priority:" + priority + " below " + last);
+        push(bucketOf(priority), priority, elem);
+        heapSize++;
+    }
+
+    //Return the lowest priority in this PQ. Only looks, so it doesn't change which priorities may be added
+    public long peekPriority(){
+        int i = firstBucket();
+        return i == 0 ? last : priorities[i][minIndex(i)];
+    }
+
+    //Return the element with the lowest priority in this PQ, the one poll would remove
+    public int peek(){
+        int i = firstBucket();
+        return elements[i][i == 0 ? bucketSizes[0] - 1 : minIndex(i)];
+    }
+
+    //Removes the element with the lowest priority, O(log(C)) amortized
+    public int poll(){
+        pull();
+        heapSize--;
+        return elements[0][--bucketSizes[0]];
+    }
+
+    //The bucket of a priority relative to last: the position of the highest bit in which they differ, plus one
+    private int bucketOf(long priority){
+        return 64 - Long.numberOfLeadingZeros(priority ^ last);
+    }
+
+    //The first non-empty bucket, it holds the lowest priority
+    private int firstBucket(){
+        if(heapSize == 0) throw new NoSuchElementException("Priority Queue Empty");
+        int i = 0;
+        while (bucketSizes[i] == 0) i++;
+        return i;
+    }
+
+    //The index of the lowest priority in a bucket, the last one if it repeats as that is the one poll takes
+    private int minIndex(int bucket){
+        long[] bucketPriorities = priorities[bucket];
+        int min = 0;
+        for (int j = 1; j < bucketSizes[bucket]; j++) {
+            if(bucketPriorities[j] <= bucketPriorities[min]) min = j;
+        }
+        return min;
+    }
+
+    //Makes sure bucket 0 holds the lowest priority, redistributing the first non-empty bucket if it doesn't
+    private void pull(){
+        int i = firstBucket();
+        if(i == 0) return;
+
+        long[] bucketPriorities = priorities[i];
+        int[] bucketElements = elements[i];
+        int count = bucketSizes[i];
+        last = bucketPriorities[minIndex(i)];
+
+        //Every element of bucket i now lands in a lower bucket, so the arrays can be read while others fill up
+        bucketSizes[i] = 0;
+        for (int j = 0; j < count; j++) push(bucketOf(bucketPriorities[j]), bucketPriorities[j], bucketElements[j]);
+    }
+
+    private void push(int bucket, long priority, int elem){
+        int n = bucketSizes[bucket];
+        if(n == priorities[bucket].length){
+            priorities[bucket] = Arrays.copyOf(priorities[bucket], n * 2);
+            elements[bucket] = Arrays.copyOf(elements[bucket], n * 2);
+        }
+        priorities[bucket][n] = priority;
+        elements[bucket][n] = elem;
+        bucketSizes[bucket] = n + 1;
+    }
+}
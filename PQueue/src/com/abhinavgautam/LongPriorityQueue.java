@@ -0,0 +1,143 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// d-ary min-heap of primitive longs, DaryHeap without the object references: no boxing, no compareTo calls and
+// the children of a node are d adjacent longs. An int priority and an int payload, e.g. a distance and a node
+// id, can be packed into one long with pack, which orders by priority first, so the heap keeps the pair
+// together without a second array.
+public class LongPriorityQueue {
+    //Number of elements currently inside the heap
+    private int heapSize = 0;
+
+    //The elements of the heap, the children of node k are d*k+1 to d*k+d
+    private long[] heap;
+
+    //log2 of the degree, children and parents are found with shifts
+    private final int shift;
+
+    private static final int DEFAULT_DEGREE = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_DEGREE = 64;
+
+    //Construct an initially empty 4-ary heap
+    public LongPriorityQueue(){
+        this(DEFAULT_DEGREE, DEFAULT_CAPACITY);
+    }
+
+    //Designated Constructor, the degree is a power of two
+    public LongPriorityQueue(int degree, int capacity){
+        if(degree < 2 || degree > MAXIMUM_DEGREE || Integer.bitCount(degree) != 1) throw new IllegalArgumentException("Illegal Degree:" + degree);
+        if(capacity < 0) throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        shift = Integer.numberOfTrailingZeros(degree);
+        heap = new long[Math.max(1, capacity)];
+    }
+
+    //Packs a priority and a payload into one element, elements order by priority and then by payload
+    public static long pack(int priority, int payload){
+        return ((long) priority << 32) | (payload & 0xFFFFFFFFL);
+    }
+
+    //Return the priority of a packed element
+    public static int priorityOf(long elem){
+        return (int) (elem >> 32);
+    }
+
+    //Return the payload of a packed element
+    public static int payloadOf(long elem){
+        return (int) elem;
+    }
+
+    //Return empty status of PQ
+    public boolean isEmpty(){
+        return heapSize==0;
+    }
+
+    //Return the size of the heap
+    public int size(){
+        return heapSize;
+    }
+
+    //Clears everything inside the heap, O(1)
+    public void clear(){
+        heapSize = 0;
+    }
+
+    //Return the lowest element in this PQ
+    public long peek(){
+        if(isEmpty()) throw new NoSuchElementException("Priority Queue Empty");
+        return heap[0];
+    }
+
+    //Removes the root of the heap, O(d*log_d(n))
+    public long poll(){
+        if(isEmpty()) throw new NoSuchElementException("Priority Queue Empty");
+        long removed_data = heap[0];
+        long last = heap[--heapSize];
+        if(heapSize > 0) sink(0, last);
+        return removed_data;
+    }
+
+    //Add an element to the PQ, O(log_d(n))
+    public void add(long elem){
+        if(heapSize == heap.length) grow();
+        swim(heapSize++, elem);
+    }
+
+    //Add a priority and payload pair to the PQ, O(log_d(n))
+    public void add(int priority, int payload){
+        add(pack(priority, payload));
+    }
+
+    //Bottom up swim of elem from hole k, O(log_d(n))
+    private void swim(int k, long elem){
+        while (k > 0){
+            int parent = (k-1) >>> shift;
+            long parentElem = heap[parent];
+            if(parentElem <= elem) break;
+            heap[k] = parentElem;
+            k = parent;
+        }
+        heap[k] = elem;
+    }
+
+    //Top down sink of elem from hole k, moving the smallest child up at every level
+    private void sink(int k, long elem){
+        //The last node with children, tested before shifting k so the index of the first child can't overflow
+        int lastParent = (heapSize - 2) >> shift;
+        while (k <= lastParent){
+            int first = (k << shift) + 1;
+            int end = first + Math.min(1 << shift, heapSize - first);
+
+            //Find the smallest of the children
+            int smallest = first;
+            long smallestElem = heap[first];
+            for (int child = first + 1; child < end; child++) {
+                if(heap[child] < smallestElem){
+                    smallest = child;
+                    smallestElem = heap[child];
+                }
+            }
+
+            //Stop if we can't sink elem anymore
+            if(elem <= smallestElem) break;
+            heap[k] = smallestElem;
+            k = smallest;
+        }
+        heap[k] = elem;
+    }
+
+    private void grow(){
+        if(heap.length == Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Required array size too large");
+        heap = Arrays.copyOf(heap, (int) Math.min(Integer.MAX_VALUE - 8, 2L * heap.length));
+    }
+
+    //Checks if this heap is a min heap
+    public boolean isMinHeap(){
+        for (int i = 1; i < heapSize; i++) {
+            if(heap[(i-1) >>> shift] > heap[i]) return false;
+        }
+        return true;
+    }
+}
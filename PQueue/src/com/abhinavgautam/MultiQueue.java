@@ -0,0 +1,136 @@
+package com.abhinavgautam;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Relaxed concurrent priority queue (Rihani, Sanders and Dementiev's MultiQueue): c*threads sequential heaps,
+// each behind its own lock. An add goes to a random heap. A poll looks at the tops of two random heaps and
+// takes from the better one. Threads rarely meet on the same heap, and a lock that is busy is skipped rather
+// than waited for. The price is ordering: a poll returns an element close to the global minimum rather than
+// the minimum itself. rankOf measures how close.
+// The heaps are DaryHeaps, a MultiQueue never removes an element other than the top so PQueue's index map
+// would only slow it down.
+public class MultiQueue<T extends Comparable<T>> implements ConcurrentPriorityQueue<T> {
+
+    // A heap with its lock. top and size mirror the heap for lock-free reads, they are only written under the lock.
+    private static final class Shard<T extends Comparable<T>> {
+        final ReentrantLock lock = new ReentrantLock();
+        final DaryHeap<T> heap = new DaryHeap<>();
+        volatile T top;
+        volatile int size;
+        // Keeps the hot fields of neighbouring shards off each other's cache lines
+        long p1, p2, p3, p4, p5, p6;
+    }
+
+    private final Shard<T>[] shards;
+
+    private static final int DEFAULT_QUEUES_PER_THREAD = 2;
+    // Rounds of two random choices a poll tries before it checks whether the whole PQ is empty
+    private static final int POLL_ATTEMPTS = 16;
+
+    //Construct a PQ for the given number of threads
+    public MultiQueue(int threads){
+        this(threads, DEFAULT_QUEUES_PER_THREAD);
+    }
+
+    //Designated Constructor, queuesPerThread is the c of c*threads heaps
+    @SuppressWarnings("unchecked")
+    public MultiQueue(int threads, int queuesPerThread){
+        if(threads <= 0) throw new IllegalArgumentException("Illegal Threads:" + threads);
+        if(queuesPerThread <= 0) throw new IllegalArgumentException("Illegal Queues Per Thread:" + queuesPerThread);
+        shards = new Shard[Math.max(2, threads * queuesPerThread)];
+        for (int i = 0; i < shards.length; i++) shards[i] = new Shard<>();
+    }
+
+    //Return the number of heaps
+    public int queues(){
+        return shards.length;
+    }
+
+    //Return the number of elements, only a snapshot while other threads are running
+    public int size(){
+        int size = 0;
+        for (Shard<T> shard : shards) size += shard.size;
+        return size;
+    }
+
+    //Return empty status of PQ
+    public boolean isEmpty(){
+        for (Shard<T> shard : shards) if(shard.size != 0) return false;
+        return true;
+    }
+
+    //Add an element to a random heap whose lock is free, O(log(n/queues))
+    public void add(T elem){
+        if(elem == null) throw new IllegalArgumentException();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true){
+            Shard<T> shard = shards[random.nextInt(shards.length)];
+            if(!shard.lock.tryLock()) continue;
+            try {
+                shard.heap.add(elem);
+                shard.top = shard.heap.peek();
+                shard.size = shard.heap.size();
+                return;
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    //Removes the lower of the tops of two random heaps, null if the PQ is empty, O(log(n/queues))
+    public T poll(){
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true){
+            for (int attempt = 0; attempt < POLL_ATTEMPTS; attempt++) {
+                Shard<T> a = shards[random.nextInt(shards.length)];
+                Shard<T> b = shards[random.nextInt(shards.length)];
+                T topA = a.top, topB = b.top;
+                if(topA == null && topB == null) continue;
+                Shard<T> best = topB == null || (topA != null && topA.compareTo(topB) <= 0) ? a : b;
+                T polled = tryPoll(best);
+                if(polled != null) return polled;
+            }
+            // The random choices kept missing, take from any heap that has something before giving up
+            boolean sawElements = false;
+            for (Shard<T> shard : shards) {
+                if(shard.top == null) continue;
+                sawElements = true;
+                T polled = tryPoll(shard);
+                if(polled != null) return polled;
+            }
+            if(!sawElements) return null;
+        }
+    }
+
+    //Polls the heap unless its lock is busy or it ran empty in the meantime
+    private T tryPoll(Shard<T> shard){
+        if(!shard.lock.tryLock()) return null;
+        try {
+            T polled = shard.heap.poll();
+            shard.top = shard.heap.peek();
+            shard.size = shard.heap.size();
+            return polled;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    //Counts the elements in the PQ that are strictly less than elem. Called with an element a poll just returned
+    //this is its rank error, 0 for a poll that returned the true minimum. Locks every heap in turn, so it is
+    //exact only while no other thread is adding or polling. O(queues + rank).
+    public int rankOf(T elem){
+        int rank = 0;
+        for (Shard<T> shard : shards) {
+            T top = shard.top;
+            if(top == null || top.compareTo(elem) >= 0) continue;
+            shard.lock.lock();
+            try {
+                rank += shard.heap.countLess(elem);
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return rank;
+    }
+}
@@ -1,3 +1,5 @@
+package com.abhinavgautam;
+
 import jdk.dynalink.linker.LinkerServices;
 
 import java.util.*;
@@ -15,6 +17,11 @@ public class PQueue<T extends Comparable<T>> {
     //Map to track the node value with the indices
     private Map<T, TreeSet<Integer>> map = new HashMap<>();
 
+    //Draining at least heapSize/DRAIN_SORT_RATIO elements sorts the heap instead of polling one at a time
+    private static final int DRAIN_SORT_RATIO = 4;
+    //Smaller heaps are always drained by polling, sorting and rebuilding the index map doesn't pay off for them
+    private static final int DRAIN_SORT_MIN_SIZE = 64;
+
     //Construct an initially empty PQ
     public PQueue(){
         this(1);
@@ -27,26 +34,15 @@ public class PQueue<T extends Comparable<T>> {
 
     //Construct a PQ using heapify in O(n)
     public PQueue(T[] elems){
-        heapSize = heapCapacity = elems.length;
-        heap = new ArrayList<>(heapCapacity);
-
-        //Place all element in the heap
-        for (int i = 0; i < heapSize; i++) {
-            mapAdd(elems[i],i);
-            heap.add(elems[i]);
-        }
-
-        //Heapify Process, O(n)
-        for (int i = Math.max(0, (heapSize/2)-1); i >= 0 ; i--) {
-            sink(i);
-        }
-
+        this(Arrays.asList(elems));
     }
 
-    //PQ construction, O(nlog(n))
+    //Construct a PQ using heapify in O(n)
     public PQueue(Collection<T> elems){
-        this(elems.size());
-        for (T elem:elems) add(elem);
+        heapSize = heapCapacity = elems.size();
+        heap = new ArrayList<>(elems);
+        for (T elem : heap) if(elem == null) throw new IllegalArgumentException();
+        heapify();
     }
 
     //Return empty status of PQ
@@ -101,6 +97,84 @@ public class PQueue<T extends Comparable<T>> {
         heapSize++;
     }
 
+    //Add all the elements to the PQ. A batch smaller than the heap is added one element at a time, O(k*log(n)),
+    //most new elements only swim a level or two. A larger batch is appended and the whole heap rebuilt with
+    //heapify instead, O(n+k), which pays for re-indexing the elements already in the heap.
+    public void addAll(Collection<? extends T> elems){
+        for (T elem : elems) if(elem == null) throw new IllegalArgumentException();
+        if(elems.size() < heapSize){
+            for (T elem : elems) add(elem);
+            return;
+        }
+        for (T elem : elems) {
+            if(heapSize < heapCapacity){
+                heap.set(heapSize, elem);
+            }else {
+                heap.add(elem);
+                heapCapacity++;
+            }
+            heapSize++;
+        }
+        heapify();
+    }
+
+    //Removes up to k elements from the root of the heap and returns them in order, O(k*log(n))
+    public List<T> pollN(int k){
+        if(k < 0) throw new IllegalArgumentException("Illegal Count:" + k);
+        List<T> polled = new ArrayList<>(Math.min(k, heapSize));
+        drainTo(polled, k);
+        return polled;
+    }
+
+    //Moves up to max elements from the root of the heap into the collection in order and returns how many were
+    //moved. When that is most of the heap, sorting it once is cheaper than sinking for every element: a sorted
+    //list is itself a valid heap, so the rest only needs its index map rebuilt.
+    public int drainTo(Collection<? super T> collection, int max){
+        if(max < 0) throw new IllegalArgumentException("Illegal Count:" + max);
+        int count = Math.min(max, heapSize);
+        if(count == 0) return 0;
+        if(heapSize < DRAIN_SORT_MIN_SIZE || count < heapSize / DRAIN_SORT_RATIO){
+            for (int i = 0; i < count; i++) collection.add(poll());
+            return count;
+        }
+        List<T> sorted = heap.subList(0, heapSize);
+        sorted.sort(null);
+        collection.addAll(sorted.subList(0, count));
+        sorted.subList(0, count).clear();
+        heapCapacity -= count;
+        heapSize -= count;
+        rebuildMap();
+        return count;
+    }
+
+    //Returns the k lowest elements in order without modifying the heap, O(k*log(k)). The elements are found
+    //lazily as the iterator advances: the next lowest is always a child of one already returned, so only a
+    //frontier of candidate indices is kept. The heap must not be modified while the iterator is in use.
+    public Iterator<T> topK(int k){
+        if(k < 0) throw new IllegalArgumentException("Illegal Count:" + k);
+        PriorityQueue<Integer> frontier = new PriorityQueue<>((i, j) -> heap.get(i).compareTo(heap.get(j)));
+        if(heapSize > 0 && k > 0) frontier.add(0);
+        return new Iterator<T>() {
+            int returned = 0;
+
+            @Override
+            public boolean hasNext() {
+                return returned < k && !frontier.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if(!hasNext()) throw new NoSuchElementException();
+                int index = frontier.poll();
+                int left = 2*index+1;
+                if(left < heapSize) frontier.add(left);
+                if(left+1 < heapSize) frontier.add(left+1);
+                returned++;
+                return heap.get(index);
+            }
+        };
+    }
+
     //Tests if the value of node i<= node j
     private boolean less(int i, int j){
         T node1 = heap.get(i);
@@ -144,6 +218,32 @@ public class PQueue<T extends Comparable<T>> {
         }
     }
 
+    //Restore the heap property over the whole list bottom up, O(n). The elements are swapped without touching
+    //the index map, which is rebuilt once at the end.
+    private void heapify(){
+        for (int k = heapSize/2-1; k >= 0; k--) {
+            T elem = heap.get(k);
+            int hole = k;
+            while (true){
+                int left = 2*hole+1; //Left Node
+                if(left >= heapSize) break;
+                int smallest = left;
+                if(left+1 < heapSize && less(left+1, left)) smallest = left+1;
+                if(elem.compareTo(heap.get(smallest)) <= 0) break;
+                heap.set(hole, heap.get(smallest));
+                hole = smallest;
+            }
+            heap.set(hole, elem);
+        }
+        rebuildMap();
+    }
+
+    //Index every element of the heap from scratch, O(n)
+    private void rebuildMap(){
+        map.clear();
+        for (int i = 0; i < heapSize; i++) mapAdd(heap.get(i), i);
+    }
+
     //Swap two nodes. Assumes i&j are valid, O(1)
     private void swap(int i, int j){
         T i_elem = heap.get(i);
@@ -172,7 +272,6 @@ public class PQueue<T extends Comparable<T>> {
         heapSize--;
         T removed_data = heap.get(i);
         swap(i,heapSize);
-        swap(i, heapSize);
 
         //Obliterate the value
         heap.set(heapSize,null);
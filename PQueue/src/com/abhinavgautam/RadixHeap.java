@@ -0,0 +1,131 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// Monotone priority queue with non-negative long priorities, IntRadixHeap for arbitrary elements. Once an
+// element was polled no element with a lower priority may be added. The priorities are kept apart from the
+// elements, so neither compareTo nor Comparable is involved.
+@SuppressWarnings("unchecked")
+public class RadixHeap<T> {
+
+    private static final int BUCKETS = 65;
+    private static final int DEFAULT_BUCKET_CAPACITY = 4;
+
+    private final long[][] priorities = new long[BUCKETS][];
+    private final Object[][] elements = new Object[BUCKETS][];
+    private final int[] bucketSizes = new int[BUCKETS];
+    private int heapSize = 0;
+    //The priority of the last polled element, no lower priority may be added
+    private long last = 0;
+
+    //Construct an initially empty PQ
+    public RadixHeap(){
+        for (int i = 0; i < BUCKETS; i++) {
+            priorities[i] = new long[DEFAULT_BUCKET_CAPACITY];
+            elements[i] = new Object[DEFAULT_BUCKET_CAPACITY];
+        }
+    }
+
+    //Return empty status of PQ
+    public boolean isEmpty(){
+        return heapSize==0;
+    }
+
+    //Return the size of the heap
+    public int size(){
+        return heapSize;
+    }
+
+    //Clears everything inside the heap and allows any priority again, O(n)
+    public void clear(){
+        for (int i = 0; i < BUCKETS; i++) Arrays.fill(elements[i], 0, bucketSizes[i], null);
+        Arrays.fill(bucketSizes, 0);
+        heapSize = 0;
+        last = 0;
+    }
+
+    //Add an element with a priority no lower than the last polled one, O(1)
+    public void add(long priority, T elem){
+        if(elem == null) throw new IllegalArgumentException();
+        if(priority < last) throw new IllegalArgumentException("Illegal Priority:" + priority + " below " + last);
+        push(bucketOf(priority), priority, elem);
+        heapSize++;
+    }
+
+    //Return the lowest priority in this PQ. Only looks, so it doesn't change which priorities may be added
+    public long peekPriority(){
+        if(isEmpty()) throw new NoSuchElementException("Priority Queue Empty");
+        int i = firstBucket();
+        return i == 0 ? last : priorities[i][minIndex(i)];
+    }
+
+    //Return the element with the lowest priority in this PQ, the one poll would remove, null if it is empty
+    public T peek(){
+        if(isEmpty()) return null;
+        int i = firstBucket();
+        return (T) elements[i][i == 0 ? bucketSizes[0] - 1 : minIndex(i)];
+    }
+
+    //Removes the element with the lowest priority, null if it is empty, O(log(C)) amortized
+    public T poll(){
+        if(isEmpty()) return null;
+        pull();
+        heapSize--;
+        int n = --bucketSizes[0];
+        T removed_data = (T) elements[0][n];
+        elements[0][n] = null;
+        return removed_data;
+    }
+
+    //The bucket of a priority relative to last: the position of the highest bit in which they differ, plus one
+    private int bucketOf(long priority){
+        return 64 - Long.numberOfLeadingZeros(priority ^ last);
+    }
+
+    //The first non-empty bucket, it holds the lowest priority
+    private int firstBucket(){
+        int i = 0;
+        while (bucketSizes[i] == 0) i++;
+        return i;
+    }
+
+    //The index of the lowest priority in a bucket, the last one if it repeats as that is the one poll takes
+    private int minIndex(int bucket){
+        long[] bucketPriorities = priorities[bucket];
+        int min = 0;
+        for (int j = 1; j < bucketSizes[bucket]; j++) {
+            if(bucketPriorities[j] <= bucketPriorities[min]) min = j;
+        }
+        return min;
+    }
+
+    //Makes sure bucket 0 holds the lowest priority, redistributing the first non-empty bucket if it doesn't
+    private void pull(){
+        int i = firstBucket();
+        if(i == 0) return;
+
+        long[] bucketPriorities = priorities[i];
+        Object[] bucketElements = elements[i];
+        int count = bucketSizes[i];
+        last = bucketPriorities[minIndex(i)];
+
+        //Every element of bucket i now lands in a lower bucket, so the arrays can be read while others fill up
+        bucketSizes[i] = 0;
+        for (int j = 0; j < count; j++) {
+            push(bucketOf(bucketPriorities[j]), bucketPriorities[j], (T) bucketElements[j]);
+            bucketElements[j] = null;
+        }
+    }
+
+    private void push(int bucket, long priority, T elem){
+        int n = bucketSizes[bucket];
+        if(n == priorities[bucket].length){
+            priorities[bucket] = Arrays.copyOf(priorities[bucket], n * 2);
+            elements[bucket] = Arrays.copyOf(elements[bucket], n * 2);
+        }
+        priorities[bucket][n] = priority;
+        elements[bucket][n] = elem;
+        bucketSizes[bucket] = n + 1;
+    }
+}
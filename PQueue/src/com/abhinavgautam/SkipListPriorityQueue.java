@@ -0,0 +1,203 @@
+package com.abhinavgautam;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lock-free priority queue on a skip list (Lotan and Shavit). The elements are kept sorted in a lock-free skip
+// list (Herlihy and Shavit's variant of Harris's list): a node is unlinked by first marking its next
+// references, after which every traversal that meets it helps to snip it out. A poll walks the bottom level
+// from the front and claims the first node nobody claimed yet with a CAS on its taken flag, so a poll never
+// waits for another. Equal elements are ordered by insertion, a sequence number makes every node unique.
+// A marked reference is a Marker node standing in for the successor, as in ConcurrentSkipListMap, so following
+// an unmarked link is a single array read rather than a detour through an AtomicMarkableReference pair.
+@SuppressWarnings("unchecked")
+public class SkipListPriorityQueue<T extends Comparable<T>> implements ConcurrentPriorityQueue<T> {
+
+    // Enough levels for tens of millions of elements
+    private static final int MAX_LEVEL = 24;
+
+    private static class Node<T> {
+        final T value;
+        final long seq;
+        // next[level] is the successor on that level, or a Marker once the node is being unlinked
+        final Node<T>[] next;
+        // Set by the poll that returns this node, before it is unlinked
+        volatile boolean taken;
+
+        Node(T value, long seq, int topLevel){
+            this.value = value;
+            this.seq = seq;
+            next = (Node<T>[]) new Node[topLevel + 1];
+        }
+
+        int topLevel(){
+            return next.length - 1;
+        }
+    }
+
+    // Replaces the successor reference of a node that is being unlinked
+    private static final class Marker<T> extends Node<T> {
+        final Node<T> successor;
+
+        Marker(Node<T> successor){
+            super(null, 0, -1);
+            this.successor = successor;
+        }
+    }
+
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Node[].class);
+    private static final VarHandle TAKEN;
+    static {
+        try {
+            TAKEN = MethodHandles.lookup().findVarHandle(Node.class, "taken", boolean.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Sentinels, head sorts before and tail after every element
+    private final Node<T> head = new Node<>(null, Long.MIN_VALUE, MAX_LEVEL);
+    private final Node<T> tail = new Node<>(null, Long.MAX_VALUE, MAX_LEVEL);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger count = new AtomicInteger();
+
+    //Construct an initially empty PQ
+    public SkipListPriorityQueue(){
+        for (int i = 0; i <= MAX_LEVEL; i++) head.next[i] = tail;
+    }
+
+    //Return the number of elements, only a snapshot while other threads are running
+    public int size(){
+        return Math.max(0, count.get());
+    }
+
+    //Return empty status of PQ
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    //Add an element to the PQ, O(log(n)) expected
+    public void add(T elem){
+        if(elem == null) throw new IllegalArgumentException();
+        int topLevel = randomLevel();
+        Node<T> node = new Node<>(elem, sequence.getAndIncrement(), topLevel);
+        Node<T>[] preds = (Node<T>[]) new Node[MAX_LEVEL + 1];
+        Node<T>[] succs = (Node<T>[]) new Node[MAX_LEVEL + 1];
+        while (true){
+            find(node, preds, succs);
+            for (int level = 0; level <= topLevel; level++) node.next[level] = succs[level];
+            // Linking the bottom level makes the element part of the queue
+            if(!NEXT.compareAndSet(preds[0].next, 0, succs[0], node)) continue;
+            count.incrementAndGet();
+            // The upper levels are only shortcuts, they are linked one after another
+            for (int level = 1; level <= topLevel; level++) {
+                while (true){
+                    Node<T> succ = next(node, level);
+                    // A poll has claimed the node already, it mustn't be linked any further
+                    if(succ instanceof Marker) return;
+                    if(succ != succs[level] && !NEXT.compareAndSet(node.next, level, succ, succs[level])) continue;
+                    if(NEXT.compareAndSet(preds[level].next, level, succs[level], node)) break;
+                    find(node, preds, succs);
+                }
+            }
+            return;
+        }
+    }
+
+    //Removes the root of the heap, null if it is empty
+    public T poll(){
+        for (Node<T> node = successor(head, 0); node != tail; node = successor(node, 0)) {
+            if(!node.taken && TAKEN.compareAndSet(node, false, true)){
+                count.decrementAndGet();
+                unlink(node);
+                return node.value;
+            }
+        }
+        return null;
+    }
+
+    //Return the value of the element with the lowest priority in this PQ, null if it is empty
+    public T peek(){
+        for (Node<T> node = successor(head, 0); node != tail; node = successor(node, 0)) {
+            if(!node.taken) return node.value;
+        }
+        return null;
+    }
+
+    //Marks every level of a claimed node from the top down, then snips it out of the list. A polled node is
+    //usually first on all its levels, so it is swung out of head directly. Only if something sits in front of
+    //it does find search the list and clean up.
+    private void unlink(Node<T> node){
+        for (int level = node.topLevel(); level >= 0; level--) {
+            while (true){
+                Node<T> succ = next(node, level);
+                if(succ instanceof Marker || NEXT.compareAndSet(node.next, level, succ, new Marker<>(succ))) break;
+            }
+        }
+        boolean unlinked = true;
+        for (int level = node.topLevel(); level >= 0; level--) {
+            if(!NEXT.compareAndSet(head.next, level, node, successor(node, level))) unlinked = false;
+        }
+        if(!unlinked) find(node, (Node<T>[]) new Node[MAX_LEVEL + 1], (Node<T>[]) new Node[MAX_LEVEL + 1]);
+    }
+
+    //Fills preds and succs with the nodes around the position of key on every level, unlinking marked nodes on
+    //the way
+    private void find(Node<T> key, Node<T>[] preds, Node<T>[] succs){
+        retry:
+        while (true){
+            Node<T> pred = head;
+            for (int level = MAX_LEVEL; level >= 0; level--) {
+                Node<T> curr = next(pred, level);
+                // pred was marked after we stepped onto it, start over from the head
+                if(curr instanceof Marker) continue retry;
+                while (true){
+                    Node<T> succ = next(curr, level);
+                    while (succ instanceof Marker){
+                        // curr is being unlinked, help by swinging pred past it
+                        succ = ((Marker<T>) succ).successor;
+                        if(!NEXT.compareAndSet(pred.next, level, curr, succ)) continue retry;
+                        curr = succ;
+                        succ = next(curr, level);
+                    }
+                    if(less(curr, key)){
+                        pred = curr;
+                        curr = succ;
+                    }else{
+                        break;
+                    }
+                }
+                preds[level] = pred;
+                succs[level] = curr;
+            }
+            return;
+        }
+    }
+
+    //The raw reference at next[level], which may be a Marker
+    private static <T> Node<T> next(Node<T> node, int level){
+        return (Node<T>) NEXT.getAcquire(node.next, level);
+    }
+
+    //The successor on a level whether or not the node is marked
+    private static <T> Node<T> successor(Node<T> node, int level){
+        Node<T> succ = next(node, level);
+        return succ instanceof Marker ? ((Marker<T>) succ).successor : succ;
+    }
+
+    //Tests if node a sorts before node b, the sentinels sort before and after every element
+    private boolean less(Node<T> a, Node<T> b){
+        if(a == tail || b == head) return false;
+        if(a == head || b == tail) return true;
+        int cmp = a.value.compareTo(b.value);
+        return cmp < 0 || (cmp == 0 && a.seq < b.seq);
+    }
+
+    //Geometric level, each level is half as likely as the one below it
+    private static int randomLevel(){
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << MAX_LEVEL));
+    }
+}
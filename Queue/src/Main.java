@@ -1,3 +1,5 @@
+import com.abhinavgautam.Queue;
+
 public class Main {
     public static void main(String[] args) {
         Queue<Integer> queue = new Queue<>(5);
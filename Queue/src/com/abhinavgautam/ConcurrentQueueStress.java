@@ -0,0 +1,300 @@
+package com.abhinavgautam;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Stress test of SpscQueue and MpmcQueue, java com.abhinavgautam.ConcurrentQueueStress [elements]. Producers
+// hand out the numbers of disjoint ranges through a mix of offer and fill, consumers take them with poll, peek
+// and drain, and every run checks that each number arrived exactly once and that the numbers of one producer
+// reached each consumer in the order they were offered. Some suppliers fail on purpose halfway through a fill:
+// SPSC has to publish what was added before the failure, MPMC publishes the rest of the claimed cells empty and
+// consumers have to step over them. Throws on the first violation.
+public class ConcurrentQueueStress {
+
+    private static final int DEFAULT_ELEMENTS = 400_000;
+    private static final int[] CAPACITIES = {1, 2, 3, 8, 1000, 1024};
+    // Producer and consumer thread counts of the MPMC runs
+    private static final int[][] THREADS = {{1, 1}, {2, 2}, {4, 4}, {1, 4}, {4, 1}};
+    // Every FAIL_EVERY-th fill has a supplier that throws after FAIL_AFTER elements
+    private static final int FAIL_EVERY = 7;
+    private static final int FAIL_AFTER = 2;
+
+    public static void main(String[] args) throws InterruptedException {
+        int elements = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ELEMENTS;
+        failedFills();
+        for (int capacity : CAPACITIES) {
+            spsc(capacity, elements);
+            System.out.println("SpscQueue capacity " + capacity + " ok");
+        }
+        for (int capacity : CAPACITIES) {
+            for (int[] threads : THREADS) {
+                mpmc(capacity, threads[0], threads[1], elements);
+                System.out.println("MpmcQueue capacity " + capacity + ", " + threads[0] + " producers, " + threads[1] + " consumers ok");
+            }
+        }
+    }
+
+    // Hands out the numbers [first, first + count) in order, failing on purpose in some fills
+    private static final class Producer {
+        final int first, count;
+        int next;
+        // The number of elements the current fill's supplier handed out, and whether it fails after FAIL_AFTER
+        int given;
+        boolean failing;
+        int steps, fills;
+
+        Producer(int first, int count){
+            this.first = first;
+            this.count = count;
+            next = first;
+        }
+
+        boolean done(){
+            return next == first + count;
+        }
+
+        int remaining(){
+            return first + count - next;
+        }
+
+        // A supplier for the next fill, every FAIL_EVERY-th one throws after FAIL_AFTER elements
+        Supplier<Integer> supplier(){
+            given = 0;
+            failing = ++fills % FAIL_EVERY == 0;
+            return () -> {
+                if (failing && given == FAIL_AFTER) throw new SupplierFailure();
+                given++;
+                return next++;
+            };
+        }
+
+        // Offers the next numbers to the queue, one fill of up to 5 for every two offers. Returns false if
+        // nothing was added because the queue was full.
+        boolean step(Offer offer, Fill fill){
+            if (steps++ % 3 == 0) {
+                try {
+                    return fill.fill(supplier(), Math.min(5, remaining())) > 0;
+                } catch (SupplierFailure e) {
+                    return given > 0;
+                }
+            }
+            if (!offer.offer(next)) return false;
+            next++;
+            return true;
+        }
+    }
+
+    private interface Offer {
+        boolean offer(Integer elem);
+    }
+
+    private interface Fill {
+        int fill(Supplier<Integer> supplier, int limit);
+    }
+
+    private static final class SupplierFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        SupplierFailure(){
+            super("Supplier failed on purpose", null, false, false);
+        }
+    }
+
+    // Checks what a consumer takes: each number once over all consumers, and the numbers of one producer in
+    // increasing order within this consumer
+    private static final class Checker implements Consumer<Integer> {
+        final AtomicIntegerArray seen;
+        final AtomicInteger received;
+        final int perProducer;
+        final int[] last;
+
+        Checker(AtomicIntegerArray seen, AtomicInteger received, int producers, int perProducer){
+            this.seen = seen;
+            this.received = received;
+            this.perProducer = perProducer;
+            last = new int[producers];
+            Arrays.fill(last, -1);
+        }
+
+        @Override
+        public void accept(Integer elem) {
+            if (elem == null) throw new IllegalStateException("Null element taken");
+            int producer = elem / perProducer;
+            if (elem <= last[producer]) throw new IllegalStateException("Element " + elem + " after " + last[producer]);
+            last[producer] = elem;
+            if (seen.getAndIncrement(elem) != 0) throw new IllegalStateException("Element " + elem + " taken twice");
+            received.incrementAndGet();
+        }
+    }
+
+    private static void spsc(int capacity, int elements) throws InterruptedException {
+        SpscQueue<Integer> queue = new SpscQueue<>(capacity);
+        AtomicIntegerArray seen = new AtomicIntegerArray(elements);
+        AtomicInteger received = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Producer producer = new Producer(0, elements);
+        Checker checker = new Checker(seen, received, 1, elements);
+
+        Thread producerThread = new Thread(() -> {
+            while (!producer.done() && failure.get() == null) {
+                if (!producer.step(queue::offer, queue::fill)) Thread.yield();
+            }
+        });
+        Thread consumerThread = new Thread(() -> {
+            int step = 0;
+            while (received.get() < elements && failure.get() == null) {
+                if (step++ % 2 == 0) {
+                    if (queue.drain(checker, 7) == 0) Thread.yield();
+                    continue;
+                }
+                // A single consumer must poll exactly what it peeked
+                Integer peeked = queue.peek();
+                Integer polled = queue.poll();
+                if (peeked != null && !peeked.equals(polled)) throw new IllegalStateException("Peeked " + peeked + " but polled " + polled);
+                if (polled == null) Thread.yield();
+                else checker.accept(polled);
+            }
+        });
+        run(failure, Arrays.asList(producerThread, consumerThread));
+        verify("SpscQueue capacity " + capacity, seen, queue.poll(), queue.size());
+    }
+
+    private static void mpmc(int capacity, int producers, int consumers, int elements) throws InterruptedException {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(capacity);
+        int perProducer = elements / producers;
+        int total = perProducer * producers;
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger received = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            Producer producer = new Producer(p * perProducer, perProducer);
+            threads.add(new Thread(() -> {
+                while (!producer.done() && failure.get() == null) {
+                    if (!producer.step(queue::offer, queue::fill)) Thread.yield();
+                }
+            }));
+        }
+        for (int c = 0; c < consumers; c++) {
+            Checker checker = new Checker(seen, received, producers, perProducer);
+            threads.add(new Thread(() -> {
+                int step = 0;
+                while (received.get() < total && failure.get() == null) {
+                    if (step++ % 2 == 0) {
+                        if (queue.drain(checker, 4) == 0) Thread.yield();
+                        continue;
+                    }
+                    if (step % 5 == 0) queue.peek();
+                    Integer polled = queue.poll();
+                    if (polled == null) Thread.yield();
+                    else checker.accept(polled);
+                }
+            }));
+        }
+        run(failure, threads);
+        verify("MpmcQueue capacity " + capacity + ", " + producers + "+" + consumers + " threads", seen, queue.poll(), queue.size());
+    }
+
+    // Single threaded checks of what a failed fill leaves behind
+    private static void failedFills(){
+        int[] next = {0};
+        Supplier<Integer> failsOnThird = () -> {
+            if (next[0] == 2) throw new SupplierFailure();
+            return next[0]++;
+        };
+
+        // SPSC publishes the elements added before the failure
+        SpscQueue<Integer> spsc = new SpscQueue<>(8);
+        try {
+            spsc.fill(failsOnThird, 5);
+            throw new IllegalStateException("SpscQueue fill swallowed the failure");
+        } catch (SupplierFailure expected) {
+        }
+        spsc.offer(99);
+        expect("SpscQueue failed fill", Arrays.asList(0, 1, 99), takeAll(spsc::poll, spsc::peek), spsc.size());
+
+        // MPMC publishes the claimed cells it couldn't fill empty, poll steps over them
+        next[0] = 0;
+        MpmcQueue<Integer> mpmc = new MpmcQueue<>(8);
+        try {
+            mpmc.fill(failsOnThird, 5);
+            throw new IllegalStateException("MpmcQueue fill swallowed the failure");
+        } catch (SupplierFailure expected) {
+        }
+        mpmc.offer(99);
+        expect("MpmcQueue failed fill", Arrays.asList(0, 1, 99), takeAll(mpmc::poll, null), mpmc.size());
+
+        // peek steps over them as well
+        next[0] = 0;
+        try {
+            mpmc.fill(failsOnThird, 5);
+        } catch (SupplierFailure expected) {
+        }
+        mpmc.offer(99);
+        expect("MpmcQueue peek after failed fill", Arrays.asList(0, 1, 99), takeAll(mpmc::poll, mpmc::peek), mpmc.size());
+
+        // drain steps over the empty cells too, and they don't count as polled
+        next[0] = 0;
+        try {
+            mpmc.fill(failsOnThird, 5);
+        } catch (SupplierFailure expected) {
+        }
+        mpmc.offer(99);
+        List<Integer> drained = new ArrayList<>();
+        int polled = mpmc.drain(drained::add, 8);
+        if (polled != 3) throw new IllegalStateException("MpmcQueue drain counted " + polled + " elements, expected 3");
+        expect("MpmcQueue drain after failed fill", Arrays.asList(0, 1, 99), drained, mpmc.size());
+
+        // The empty cells go back to the next round, the queue fills up to its capacity again
+        int added = mpmc.fill(() -> 7, 100);
+        if (added != mpmc.capacity()) throw new IllegalStateException("MpmcQueue refilled " + added + " of " + mpmc.capacity() + " cells");
+        System.out.println("Failed fills ok");
+    }
+
+    // Polls until the queue is empty. Unless peek is null, every poll is preceded by a peek that has to show
+    // what the poll returns.
+    private static List<Integer> takeAll(Supplier<Integer> poll, Supplier<Integer> peek){
+        List<Integer> taken = new ArrayList<>();
+        while (true) {
+            Integer peeked = peek == null ? null : peek.get();
+            Integer polled = poll.get();
+            if (peek != null && (peeked == null ? polled != null : !peeked.equals(polled))) {
+                throw new IllegalStateException("Peeked " + peeked + " but polled " + polled);
+            }
+            if (polled == null) return taken;
+            taken.add(polled);
+        }
+    }
+
+    private static void expect(String name, List<Integer> expected, List<Integer> actual, int size){
+        if (!expected.equals(actual)) throw new IllegalStateException(name + ": took " + actual + ", expected " + expected);
+        if (size != 0) throw new IllegalStateException(name + ": size " + size + " after taking everything");
+    }
+
+    // Starts the threads and waits for them, rethrowing the first failure of any of them
+    private static void run(AtomicReference<Throwable> failure, List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.setUncaughtExceptionHandler((t, e) -> failure.compareAndSet(null, e));
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException) throw (RuntimeException) e;
+        if (e instanceof Error) throw (Error) e;
+    }
+
+    private static void verify(String name, AtomicIntegerArray seen, Integer leftOver, int size){
+        for (int i = 0; i < seen.length(); i++) {
+            if (seen.get(i) != 1) throw new IllegalStateException(name + ": element " + i + " taken " + seen.get(i) + " times");
+        }
+        if (leftOver != null) throw new IllegalStateException(name + ": element " + leftOver + " left over");
+        if (size != 0) throw new IllegalStateException(name + ": size " + size + " after taking everything");
+    }
+}
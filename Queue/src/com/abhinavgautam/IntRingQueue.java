@@ -0,0 +1,123 @@
+package com.abhinavgautam;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// RingQueue specialised for int, the elements live unboxed in an int[] so offers allocate nothing at all.
+public class IntRingQueue {
+
+    private int [] arr;
+    private int head = 0;
+    private int len = 0;
+    private int modificationCount = 0;
+    // The most elements the queue may hold, or -1 if it grows without bound
+    private final int capacityLimit;
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    //Constructor
+    public IntRingQueue(){
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    // Designated Constructor, a fixed capacity queue never holds more than capacity elements
+    public IntRingQueue(int capacity, boolean fixedCapacity){
+        if (capacity < 0 || capacity > MAXIMUM_CAPACITY || (fixedCapacity && capacity == 0))
+            throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        capacityLimit = fixedCapacity ? capacity : -1;
+        arr = new int[next2power(capacity)];
+    }
+
+    // Given a number this method finds the smallest power of two not below it
+    private static int next2power(int n){
+        return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    // Return the size of the queue
+    public int size(){
+        return len;
+    }
+
+    // Return whether or not the queue is empty
+    public boolean isEmpty(){
+        return size()==0;
+    }
+
+    // Return true if a fixed capacity queue has no room left
+    public boolean isFull(){
+        return len == capacityLimit;
+    }
+
+    // Peek the element at the front of the queue
+    public int peek(){
+        if (isEmpty()) throw new RuntimeException("Queue Empty");
+        return arr[head];
+    }
+
+    //Poll an element from the front of the queue
+    public int poll(){
+        if(isEmpty()) throw new RuntimeException("Queue Empty");
+        int data = arr[head];
+        head = (head + 1) & (arr.length - 1);
+        len--;
+        modificationCount++;
+        return data;
+    }
+
+    //Add an element to the back of the queue, returns false if a fixed capacity queue is full
+    public boolean offer(int elem){
+        if (len == capacityLimit) return false;
+        if (len == arr.length) grow();
+        arr[(head + len) & (arr.length - 1)] = elem;
+        len++;
+        modificationCount++;
+        return true;
+    }
+
+    public void clear(){
+        head = len = 0;
+        modificationCount++;
+    }
+
+    // Doubles the array, unwrapping the elements so that they start at 0 again
+    private void grow(){
+        if (arr.length == MAXIMUM_CAPACITY) throw new OutOfMemoryError("Required array size too large");
+        int[] new_arr = new int[arr.length * 2];
+        int firstPart = Math.min(len, arr.length - head);
+        System.arraycopy(arr, head, new_arr, 0, firstPart);
+        System.arraycopy(arr, 0, new_arr, firstPart, len - firstPart);
+        arr = new_arr;
+        head = 0;
+    }
+
+    // Iterates from the front of the queue to the back
+    public PrimitiveIterator.OfInt iterator() {
+        final int MODIFICATION_COUNT = modificationCount;
+        return new PrimitiveIterator.OfInt() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                if (MODIFICATION_COUNT != modificationCount) throw new ConcurrentModificationException();
+                return index < len;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return arr[(head + index++) & (arr.length - 1)];
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < len; i++){
+            if (i > 0) sb.append(", ");
+            sb.append(arr[(head + i) & (arr.length - 1)]);
+        }
+        return sb.append("]").toString();
+    }
+}
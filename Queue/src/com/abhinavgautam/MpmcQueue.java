@@ -0,0 +1,189 @@
+package com.abhinavgautam;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Bounded lock-free Queue for any number of producer and consumer threads (Dmitry Vyukov's bounded MPMC queue).
+// Every cell carries a sequence number that says whose turn it is: a cell at position p is free for the
+// producer claiming p while its sequence is p, and holds an element for the consumer claiming p once the
+// producer sets it to p + 1. The consumer hands the cell back to the next round by setting it to p + capacity.
+// Producers and consumers each claim positions with a CAS on their own padded counter and never contend with
+// each other, only with threads on the same side.
+// Unlike Queue, poll and peek return null on an empty queue, since another thread may be about to offer.
+@SuppressWarnings("unchecked")
+public class MpmcQueue<T> {
+
+    // A position counter on a cache line of its own, the trailing fields keep whatever is allocated after it
+    // off that line
+    static final class PaddedCounter extends AtomicLong {
+        long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    private final T [] arr;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    // The next position to offer into and the next position to poll from
+    private final PaddedCounter enqueuePosition = new PaddedCounter();
+    private final PaddedCounter dequeuePosition = new PaddedCounter();
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // The capacity is rounded up to a power of two, and at least 2 so that a cell's free and full sequence
+    // numbers differ
+    public MpmcQueue(int capacity){
+        if (capacity <= 0 || capacity > MAXIMUM_CAPACITY) throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        int length = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        arr = (T[]) new Object[length];
+        sequences = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) sequences.set(i, i);
+        mask = length - 1;
+    }
+
+    public int capacity(){
+        return arr.length;
+    }
+
+    // Return the size of the queue, only a snapshot while other threads are running
+    public int size(){
+        long d = dequeuePosition.get();
+        return (int) Math.max(0, Math.min(arr.length, enqueuePosition.get() - d));
+    }
+
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    // Add an element to the back of the queue, returns false if the queue is full
+    public boolean offer(T elem){
+        if (elem == null) throw new IllegalArgumentException("Null Element");
+        long position = enqueuePosition.get();
+        while (true){
+            long difference = sequences.get((int) position & mask) - position;
+            if (difference == 0){
+                if (enqueuePosition.compareAndSet(position, position + 1)) break;
+                position = enqueuePosition.get();
+            }else if (difference < 0){
+                // The cell still holds the element from the previous round
+                return false;
+            }else{
+                // Another producer claimed this position already
+                position = enqueuePosition.get();
+            }
+        }
+        int index = (int) position & mask;
+        arr[index] = elem;
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    // Poll an element from the front of the queue, null if it is empty
+    public T poll(){
+        while (true){
+            long position = dequeuePosition.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            // The producer of this position hasn't published it yet
+            if (difference < 0) return null;
+            if (difference == 0 && dequeuePosition.compareAndSet(position, position + 1)){
+                T data = arr[index];
+                arr[index] = null;
+                sequences.lazySet(index, position + arr.length);
+                // A cell left empty by a failed fill is skipped
+                if (data != null) return data;
+            }
+        }
+    }
+
+    // Peek the element at the front of the queue, null if it is empty. A concurrent poll may take the element
+    // before the caller does anything with it.
+    public T peek(){
+        while (true){
+            long position = dequeuePosition.get();
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference < 0) return null;
+            T data = arr[index];
+            // The element is only ours to return if the cell wasn't polled while we read it
+            if (difference != 0 || dequeuePosition.get() != position) continue;
+            if (data != null) return data;
+            // A cell left empty by a failed fill, step over it as poll would
+            if (dequeuePosition.compareAndSet(position, position + 1)) sequences.lazySet(index, position + arr.length);
+        }
+    }
+
+    // Offers elements taken from the supplier until limit elements were added or the queue is full. The free
+    // cells at the tail are claimed together with a single CAS. Returns the number of elements added.
+    public int fill(Supplier<? extends T> supplier, int limit){
+        if (limit < 0) throw new IllegalArgumentException("Illegal Limit:" + limit);
+        long position;
+        int count;
+        while (true){
+            position = enqueuePosition.get();
+            count = 0;
+            while (count < limit && sequences.get((int) (position + count) & mask) == position + count) count++;
+            if (count == 0){
+                // Full, unless another producer moved the tail while we looked
+                if (enqueuePosition.get() == position) return 0;
+                continue;
+            }
+            if (enqueuePosition.compareAndSet(position, position + count)) break;
+        }
+        // The positions are claimed, every one of them has to be published even if the supplier fails
+        int added = 0;
+        try {
+            for (; added < count; added++){
+                T elem = supplier.get();
+                if (elem == null) throw new IllegalArgumentException("Null Element");
+                int index = (int) (position + added) & mask;
+                arr[index] = elem;
+                sequences.lazySet(index, position + added + 1);
+            }
+        } finally {
+            // Cells the supplier couldn't fill are published empty, consumers step over them
+            for (int i = added; i < count; i++) sequences.lazySet((int) (position + i) & mask, position + i + 1);
+        }
+        return count;
+    }
+
+    // Polls up to limit elements into the consumer. The published cells at the head are claimed together with a
+    // single CAS. Returns the number of elements polled.
+    public int drain(Consumer<? super T> consumer, int limit){
+        if (limit < 0) throw new IllegalArgumentException("Illegal Limit:" + limit);
+        long position;
+        int count;
+        while (true){
+            position = dequeuePosition.get();
+            count = 0;
+            while (count < limit && sequences.get((int) (position + count) & mask) == position + count + 1) count++;
+            if (count == 0){
+                if (dequeuePosition.get() == position) return 0;
+                continue;
+            }
+            if (dequeuePosition.compareAndSet(position, position + count)) break;
+        }
+        // Every claimed cell has to be released. If the consumer fails, the elements claimed after the failing
+        // one are dropped rather than leaving their cells blocked for every later round.
+        int released = 0, polled = 0;
+        try {
+            while (released < count){
+                int index = (int) (position + released) & mask;
+                T data = arr[index];
+                arr[index] = null;
+                sequences.lazySet(index, position + released++ + arr.length);
+                if (data != null){
+                    polled++;
+                    consumer.accept(data);
+                }
+            }
+        } finally {
+            for (int i = released; i < count; i++){
+                int index = (int) (position + i) & mask;
+                arr[index] = null;
+                sequences.lazySet(index, position + i + arr.length);
+            }
+        }
+        return polled;
+    }
+}
@@ -1,3 +1,5 @@
+package com.abhinavgautam;
+
 import java.util.Iterator;
 import java.util.LinkedList;
 
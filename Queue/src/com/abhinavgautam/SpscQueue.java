@@ -0,0 +1,134 @@
+package com.abhinavgautam;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Bounded lock-free Queue for exactly one producer thread and one consumer thread (Lamport's ring, with the
+// FastFlow refinement of cached indices). Only the producer writes tail and only the consumer writes head, so
+// neither needs a CAS: an element is written into its cell and then published with an ordered store of tail.
+// Each side keeps a private copy of the other side's index and only re-reads the shared one when the copy says
+// the ring is full (or empty), so in steady state the two threads don't touch each other's cache lines.
+// Unlike Queue, poll and peek return null on an empty queue, since another thread may be about to offer.
+@SuppressWarnings("unchecked")
+public class SpscQueue<T> {
+
+    // An index on a cache line of its own, next to the owning thread's copy of the opposite index. The
+    // trailing fields keep whatever is allocated after it off that line.
+    static final class PaddedIndex extends AtomicLong {
+        long cached;
+        long p1, p2, p3, p4, p5, p6;
+    }
+
+    private final T [] arr;
+    private final int mask;
+    // Index of the next cell to poll, written by the consumer. cached holds the consumer's view of tail.
+    private final PaddedIndex head = new PaddedIndex();
+    // Index of the next cell to offer into, written by the producer. cached holds the producer's view of head.
+    private final PaddedIndex tail = new PaddedIndex();
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // The capacity is rounded up to a power of two
+    public SpscQueue(int capacity){
+        if (capacity <= 0 || capacity > MAXIMUM_CAPACITY) throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        arr = (T[]) new Object[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+        mask = arr.length - 1;
+    }
+
+    public int capacity(){
+        return arr.length;
+    }
+
+    // Return the size of the queue, only a snapshot while the other thread is running
+    public int size(){
+        long h = head.get();
+        return (int) Math.max(0, Math.min(arr.length, tail.get() - h));
+    }
+
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    // Add an element to the back of the queue, returns false if the queue is full. Producer thread only.
+    public boolean offer(T elem){
+        if (elem == null) throw new IllegalArgumentException("Null Element");
+        long t = tail.get();
+        if (t - tail.cached == arr.length){
+            tail.cached = head.get();
+            if (t - tail.cached == arr.length) return false;
+        }
+        arr[(int) t & mask] = elem;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    // Offers elements taken from the supplier until limit elements were added or the queue is full, publishing
+    // them with a single store of tail. Returns the number of elements added. Producer thread only.
+    public int fill(Supplier<? extends T> supplier, int limit){
+        if (limit < 0) throw new IllegalArgumentException("Illegal Limit:" + limit);
+        long t = tail.get();
+        long free = arr.length - (t - tail.cached);
+        if (free < limit){
+            tail.cached = head.get();
+            free = arr.length - (t - tail.cached);
+        }
+        int count = (int) Math.min(free, limit), added = 0;
+        try {
+            for (; added < count; added++){
+                T elem = supplier.get();
+                if (elem == null) throw new IllegalArgumentException("Null Element");
+                arr[(int) (t + added) & mask] = elem;
+            }
+        } finally {
+            // Whatever was added before the supplier failed is still published
+            tail.lazySet(t + added);
+        }
+        return count;
+    }
+
+    // Poll an element from the front of the queue, null if it is empty. Consumer thread only.
+    public T poll(){
+        long h = head.get();
+        if (h == head.cached){
+            head.cached = tail.get();
+            if (h == head.cached) return null;
+        }
+        int index = (int) h & mask;
+        T data = arr[index];
+        arr[index] = null;
+        head.lazySet(h + 1);
+        return data;
+    }
+
+    // Peek the element at the front of the queue, null if it is empty. Consumer thread only.
+    public T peek(){
+        long h = head.get();
+        if (h == head.cached){
+            head.cached = tail.get();
+            if (h == head.cached) return null;
+        }
+        return arr[(int) h & mask];
+    }
+
+    // Polls up to limit elements into the consumer, releasing their cells with a single store of head. Returns
+    // the number of elements polled. Consumer thread only.
+    public int drain(Consumer<? super T> consumer, int limit){
+        if (limit < 0) throw new IllegalArgumentException("Illegal Limit:" + limit);
+        long h = head.get();
+        if (head.cached - h < limit) head.cached = tail.get();
+        int count = (int) Math.min(head.cached - h, limit), polled = 0;
+        try {
+            while (polled < count){
+                int index = (int) (h + polled++) & mask;
+                T data = arr[index];
+                arr[index] = null;
+                consumer.accept(data);
+            }
+        } finally {
+            // An element the consumer failed on is still gone from the queue
+            head.lazySet(h + polled);
+        }
+        return count;
+    }
+}
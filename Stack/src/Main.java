@@ -1,3 +1,5 @@
+import com.abhinavgautam.Stack;
+
 public class Main {
     public static void main(String[] args) {
         Stack<Integer> stack = new Stack<>(5);
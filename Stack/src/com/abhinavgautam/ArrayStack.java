@@ -0,0 +1,126 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Stack backed by an array instead of a LinkedList: a push stores a reference in the next cell rather than
+// allocating a node, and the elements stay next to each other in memory. The array doubles when full,
+// unless the stack was created with a fixed capacity, in which case offer refuses the element.
+@SuppressWarnings("unchecked")
+public class ArrayStack<T> implements Iterable<T> {
+
+    private T [] arr;
+    private int len = 0;
+    private int modificationCount = 0;
+    private final boolean fixedCapacity;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Create an empty stack that grows as needed
+    public ArrayStack(){
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    // Create a Stack with an initial element
+    public ArrayStack(T firstElem){
+        this();
+        push(firstElem);
+    }
+
+    // Designated Constructor, a fixed capacity stack never holds more than capacity elements
+    public ArrayStack(int capacity, boolean fixedCapacity){
+        if (capacity < 0 || (fixedCapacity && capacity == 0)) throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        this.fixedCapacity = fixedCapacity;
+        arr = (T[]) new Object[capacity];
+    }
+
+    // Return the number of elements in the stack
+    public int size(){
+        return len;
+    }
+
+    //Check if stack is empty
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    // Return true if a fixed capacity stack has no room left
+    public boolean isFull(){
+        return fixedCapacity && len == arr.length;
+    }
+
+    // Push an element on the stack, a full fixed capacity stack throws
+    public void push(T elem){
+        if (!offer(elem)) throw new IllegalStateException("Stack Full");
+    }
+
+    // Push an element on the stack, returns false instead if a fixed capacity stack is full
+    public boolean offer(T elem){
+        if (len == arr.length){
+            if (fixedCapacity) return false;
+            grow();
+        }
+        arr[len++] = elem;
+        modificationCount++;
+        return true;
+    }
+
+    //Pop an element off the stack
+    public T pop(){
+        if(isEmpty()) throw new EmptyStackException();
+        T data = arr[--len];
+        arr[len] = null;
+        modificationCount++;
+        return data;
+    }
+
+    //Peek the top of the stack without removing the element
+    public T peek(){
+        if(isEmpty()) throw new EmptyStackException();
+        return arr[len - 1];
+    }
+
+    public void clear(){
+        Arrays.fill(arr, 0, len, null);
+        len = 0;
+        modificationCount++;
+    }
+
+    private void grow(){
+        if (arr.length == Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Required array size too large");
+        arr = Arrays.copyOf(arr, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(DEFAULT_CAPACITY, 2L * arr.length)));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < len; i++){
+            if (i > 0) sb.append(", ");
+            sb.append(arr[i]);
+        }
+        return sb.append("]").toString();
+    }
+
+    // Iterates from the bottom of the stack to the top, the order Stack's iterator uses
+    @Override
+    public Iterator<T> iterator() {
+        final int MODIFICATION_COUNT = modificationCount;
+        return new Iterator<T>() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                if (MODIFICATION_COUNT != modificationCount) throw new ConcurrentModificationException();
+                return index < len;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return arr[index++];
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.abhinavgautam;
+
+import java.util.ArrayDeque;
+import java.util.EmptyStackException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Lock-free Stack for any number of threads (Treiber's stack): the top node is swapped with a CAS on head.
+// Under contention most of those CASes fail, so a thread whose CAS failed backs off to an elimination array
+// (Hendler, Shavit and Yerushalmi) instead of retrying at once. A push parks its node in a random slot for a
+// short while, and a pop that finds a parked node takes it, so the pair completes without touching head at
+// all. The more threads contend, the more pairs meet in the array.
+public class ConcurrentStack<T> {
+
+    private static class Node<T> {
+        final T data;
+        Node<T> next;
+
+        Node(T data){
+            this.data = data;
+        }
+    }
+
+    private final AtomicReference<Node<T>> head = new AtomicReference<>();
+    // Nodes of pushes waiting for a pop, null for free slots. Null when elimination is switched off.
+    private final AtomicReferenceArray<Node<T>> eliminationSlots;
+
+    // How often a parked push checks whether a pop took its node before it gives up
+    private static final int ELIMINATION_SPINS = 64;
+    private static final int MAXIMUM_SLOTS = 64;
+
+    // Create an empty stack with an elimination slot per processor
+    public ConcurrentStack(){
+        this(Math.min(MAXIMUM_SLOTS, Runtime.getRuntime().availableProcessors()));
+    }
+
+    // Designated Constructor, 0 slots turns elimination off and leaves a plain Treiber stack
+    public ConcurrentStack(int eliminationSlots){
+        if (eliminationSlots < 0 || eliminationSlots > MAXIMUM_SLOTS) throw new IllegalArgumentException("Illegal Elimination Slots:" + eliminationSlots);
+        this.eliminationSlots = eliminationSlots == 0 ? null : new AtomicReferenceArray<>(eliminationSlots);
+    }
+
+    // Return the number of elements in the stack, counted by walking it, so only a snapshot under contention
+    public int size(){
+        int count = 0;
+        for (Node<T> node = head.get(); node != null; node = node.next) count++;
+        return count;
+    }
+
+    //Check if stack is empty
+    public boolean isEmpty(){
+        return head.get() == null;
+    }
+
+    // Push an element on the stack
+    public void push(T elem){
+        Node<T> node = new Node<>(elem);
+        while (true){
+            Node<T> top = head.get();
+            node.next = top;
+            if (head.compareAndSet(top, node)) return;
+            if (eliminationSlots != null && eliminatePush(node)) return;
+        }
+    }
+
+    //Pop an element off the stack
+    public T pop(){
+        while (true){
+            Node<T> top = head.get();
+            if (top == null) throw new EmptyStackException();
+            if (head.compareAndSet(top, top.next)) return top.data;
+            if (eliminationSlots != null){
+                Node<T> node = eliminatePop();
+                if (node != null) return node.data;
+            }
+        }
+    }
+
+    //Peek the top of the stack without removing the element
+    public T peek(){
+        Node<T> top = head.get();
+        if (top == null) throw new EmptyStackException();
+        return top.data;
+    }
+
+    // Parks the node in a random free slot and waits for a pop to take it. Returns true if one did, false if
+    // the push has to go back to head.
+    private boolean eliminatePush(Node<T> node){
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        if (!eliminationSlots.compareAndSet(slot, null, node)) return false;
+        for (int i = 0; i < ELIMINATION_SPINS; i++){
+            if (eliminationSlots.get(slot) != node) return true;
+            Thread.onSpinWait();
+        }
+        // Withdraw the node, if that fails a pop took it in the meantime
+        return !eliminationSlots.compareAndSet(slot, node, null);
+    }
+
+    // Takes the node of a parked push from a random slot, null if there was none
+    private Node<T> eliminatePop(){
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length());
+        Node<T> node = eliminationSlots.get(slot);
+        if (node != null && eliminationSlots.compareAndSet(slot, node, null)) return node;
+        return null;
+    }
+
+    // Lists the elements from the bottom of the stack to the top, as Stack does
+    @Override
+    public String toString() {
+        ArrayDeque<T> elements = new ArrayDeque<>();
+        for (Node<T> node = head.get(); node != null; node = node.next) elements.addFirst(node.data);
+        return elements.toString();
+    }
+}
@@ -0,0 +1,113 @@
+package com.abhinavgautam;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+// ArrayStack specialised for long, the elements live unboxed in a long[] so pushes allocate nothing at all.
+public class LongArrayStack {
+
+    private long [] arr;
+    private int len = 0;
+    private int modificationCount = 0;
+    private final boolean fixedCapacity;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Create an empty stack that grows as needed
+    public LongArrayStack(){
+        this(DEFAULT_CAPACITY, false);
+    }
+
+    // Designated Constructor, a fixed capacity stack never holds more than capacity elements
+    public LongArrayStack(int capacity, boolean fixedCapacity){
+        if (capacity < 0 || (fixedCapacity && capacity == 0)) throw new IllegalArgumentException("Illegal Capacity:" + capacity);
+        this.fixedCapacity = fixedCapacity;
+        arr = new long[capacity];
+    }
+
+    // Return the number of elements in the stack
+    public int size(){
+        return len;
+    }
+
+    //Check if stack is empty
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    // Return true if a fixed capacity stack has no room left
+    public boolean isFull(){
+        return fixedCapacity && len == arr.length;
+    }
+
+    // Push an element on the stack, a full fixed capacity stack throws
+    public void push(long elem){
+        if (!offer(elem)) throw new IllegalStateException("Stack Full");
+    }
+
+    // Push an element on the stack, returns false instead if a fixed capacity stack is full
+    public boolean offer(long elem){
+        if (len == arr.length){
+            if (fixedCapacity) return false;
+            grow();
+        }
+        arr[len++] = elem;
+        modificationCount++;
+        return true;
+    }
+
+    //Pop an element off the stack
+    public long pop(){
+        if(isEmpty()) throw new EmptyStackException();
+        modificationCount++;
+        return arr[--len];
+    }
+
+    //Peek the top of the stack without removing the element
+    public long peek(){
+        if(isEmpty()) throw new EmptyStackException();
+        return arr[len - 1];
+    }
+
+    public void clear(){
+        len = 0;
+        modificationCount++;
+    }
+
+    private void grow(){
+        if (arr.length == Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Required array size too large");
+        arr = Arrays.copyOf(arr, (int) Math.min(Integer.MAX_VALUE - 8, Math.max(DEFAULT_CAPACITY, 2L * arr.length)));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < len; i++){
+            if (i > 0) sb.append(", ");
+            sb.append(arr[i]);
+        }
+        return sb.append("]").toString();
+    }
+
+    // Iterates from the bottom of the stack to the top
+    public PrimitiveIterator.OfLong iterator() {
+        final int MODIFICATION_COUNT = modificationCount;
+        return new PrimitiveIterator.OfLong() {
+            int index = 0;
+            @Override
+            public boolean hasNext() {
+                if (MODIFICATION_COUNT != modificationCount) throw new ConcurrentModificationException();
+                return index < len;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return arr[index++];
+            }
+        };
+    }
+}
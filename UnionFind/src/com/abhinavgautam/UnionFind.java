@@ -1,3 +1,5 @@
+package com.abhinavgautam;
+
 public class UnionFind {
     //The number of elements in this union find
     private int size;